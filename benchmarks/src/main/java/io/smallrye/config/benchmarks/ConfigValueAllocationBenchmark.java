@@ -0,0 +1,64 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.ProfileConfigSourceInterceptor;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * {@link SmallRyeConfig#getConfigValue(String)} of a plain name and of a name with a value in the active profile. The
+ * allocations of each lookup are reported by the {@code gc.alloc.rate.norm} metric of the GC profiler, added by
+ * {@link Benchmarks} or with {@code -prof gc}. A plain lookup only allocates the returned {@link ConfigValue}, and a
+ * profile lookup also the profile name and the {@link ConfigValue} of the profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigValueAllocationBenchmark {
+    SmallRyeConfig plain;
+    SmallRyeConfig profile;
+
+    @Setup
+    public void setup() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        properties.put("%prof.my.prop", "5678");
+
+        plain = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "allocations", 100))
+                .build();
+        profile = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "allocations", 100))
+                .withInterceptors(new ProfileConfigSourceInterceptor("prof"))
+                .build();
+    }
+
+    @Benchmark
+    public ConfigValue plainLookup() {
+        return plain.getConfigValue("my.prop");
+    }
+
+    @Benchmark
+    public ConfigValue profileLookup() {
+        return profile.getConfigValue("my.prop");
+    }
+}
@@ -0,0 +1,68 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.ConfigKey;
+import io.smallrye.config.EnvConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Lookups of dotted names in an {@link EnvConfigSource}, that are normalized to the names of the environment
+ * variables, with a name and with a precompiled {@link ConfigKey}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvBenchmark {
+    static final int VARIABLES = 200;
+
+    SmallRyeConfig config;
+    ConfigKey key;
+
+    @Setup
+    public void setup() {
+        Map<String, String> env = new HashMap<>();
+        for (int i = 0; i < VARIABLES; i++) {
+            env.put("MY_APP_PROPERTY_" + i, "value" + i);
+        }
+
+        config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new EnvConfigSource(env, 300))
+                .build();
+        key = config.key("my.app.property." + (VARIABLES / 2));
+    }
+
+    @Benchmark
+    public String normalizedName() {
+        return config.getValue("my.app.property." + (VARIABLES / 2), String.class);
+    }
+
+    @Benchmark
+    public String normalizedKey() {
+        return config.getValue(key, String.class);
+    }
+
+    @Benchmark
+    public Optional<String> miss() {
+        return config.getOptionalValue("my.app.missing", String.class);
+    }
+}
@@ -0,0 +1,62 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * {@link SmallRyeConfig#getValue(String, Class)} of an expression that expands a chain of nested expressions, with an
+ * increasing depth, and of a value without expressions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionBenchmark {
+    @Param({ "1", "4", "16" })
+    int depth;
+
+    SmallRyeConfig config;
+
+    @Setup
+    public void setup() {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < depth; i++) {
+            properties.put("expression." + i, "${expression." + (i + 1) + "}");
+        }
+        properties.put("expression." + depth, "value");
+
+        config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new PropertiesConfigSource(properties, "expressions", 100))
+                .build();
+    }
+
+    @Benchmark
+    public String expansion() {
+        return config.getValue("expression.0", String.class);
+    }
+
+    @Benchmark
+    public String withoutExpression() {
+        return config.getValue("expression." + depth, String.class);
+    }
+}
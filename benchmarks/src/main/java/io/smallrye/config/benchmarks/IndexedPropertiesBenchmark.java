@@ -0,0 +1,58 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * {@link SmallRyeConfig#getValues(String, Class)} of indexed properties, like {@code my.list[0]}, with an increasing
+ * number of elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedPropertiesBenchmark {
+    @Param({ "1", "10", "100" })
+    int elements;
+
+    SmallRyeConfig config;
+
+    @Setup
+    public void setup() {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < elements; i++) {
+            properties.put("my.list[" + i + "]", "value" + i);
+        }
+
+        config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new PropertiesConfigSource(properties, "indexed", 100))
+                .withSources(LookupBenchmark.source(0, 200))
+                .build();
+    }
+
+    @Benchmark
+    public List<String> indexedValues() {
+        return config.getValues("my.list", String.class);
+    }
+}
@@ -0,0 +1,77 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * {@link SmallRyeConfig#getValue(String, Class)} of a name in the first and in the last source of the chain, and of a
+ * name without a value, with an increasing number of sources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+    static final int PROPERTIES = 100;
+
+    @Param({ "1", "10", "50" })
+    int sources;
+
+    SmallRyeConfig config;
+    String firstName;
+    String lastName;
+
+    @Setup
+    public void setup() {
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder().addDefaultInterceptors();
+        for (int i = 0; i < sources; i++) {
+            builder.withSources(source(i, 1000 - i));
+        }
+        config = builder.build();
+        firstName = "source0.prop" + (PROPERTIES / 2);
+        lastName = "source" + (sources - 1) + ".prop" + (PROPERTIES / 2);
+    }
+
+    @Benchmark
+    public String hitFirstSource() {
+        return config.getValue(firstName, String.class);
+    }
+
+    @Benchmark
+    public String hitLastSource() {
+        return config.getValue(lastName, String.class);
+    }
+
+    @Benchmark
+    public Optional<String> miss() {
+        return config.getOptionalValue("source0.missing", String.class);
+    }
+
+    static PropertiesConfigSource source(int index, int ordinal) {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < PROPERTIES; i++) {
+            properties.put("source" + index + ".prop" + i, "value" + i);
+        }
+        return new PropertiesConfigSource(properties, "source" + index, ordinal);
+    }
+}
@@ -0,0 +1,73 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.config.WithDefault;
+
+/**
+ * The build of a {@link SmallRyeConfig} with a {@link ConfigMapping}, which maps the configuration in
+ * {@code ConfigMappingProvider#mapConfiguration}, with an increasing number of mapped groups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+    @Param({ "1", "10", "100" })
+    int servers;
+
+    PropertiesConfigSource source;
+
+    @Setup
+    public void setup() {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < servers; i++) {
+            properties.put("servers.server.server" + i + ".host", "host" + i);
+            properties.put("servers.server.server" + i + ".port", String.valueOf(8080 + i));
+        }
+        source = new PropertiesConfigSource(properties, "servers", 100);
+    }
+
+    @Benchmark
+    public Servers mapping() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withMapping(Servers.class, "servers")
+                .build();
+        return config.getConfigMapping(Servers.class, "servers");
+    }
+
+    @ConfigMapping(prefix = "servers")
+    public interface Servers {
+        Map<String, Server> server();
+    }
+
+    public interface Server {
+        String host();
+
+        int port();
+
+        @WithDefault("/")
+        String path();
+    }
+}
@@ -0,0 +1,71 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * {@link SmallRyeConfig#getValue(String, Class)} of a name with a value in the last active profile, and of a name
+ * without profile values, with an increasing number of active profiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileBenchmark {
+    @Param({ "0", "1", "2", "3" })
+    int profiles;
+
+    SmallRyeConfig config;
+
+    @Setup
+    public void setup() {
+        List<String> activeProfiles = new ArrayList<>();
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "value");
+        properties.put("my.plain", "value");
+        for (int i = 0; i < profiles; i++) {
+            activeProfiles.add("profile" + i);
+        }
+        if (profiles > 0) {
+            properties.put("%profile0.my.prop", "profile0");
+        }
+
+        config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfiles(activeProfiles)
+                .withSources(new PropertiesConfigSource(properties, "profiles", 100))
+                .withSources(LookupBenchmark.source(0, 200))
+                .build();
+    }
+
+    @Benchmark
+    public String profileValue() {
+        return config.getValue("my.prop", String.class);
+    }
+
+    @Benchmark
+    public String withoutProfileValue() {
+        return config.getValue("my.plain", String.class);
+    }
+}
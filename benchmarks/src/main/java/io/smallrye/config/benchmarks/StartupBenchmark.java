@@ -0,0 +1,56 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * The cold {@link SmallRyeConfigBuilder#build()} of the {@link StartupWorkload}, once in each of a number of fresh
+ * JVMs, with an increasing number of discovered files and of mappings. The time of each phase of the build is
+ * reported by {@link StartupRegression}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+    @Param({ "1", "10", "50" })
+    int files;
+
+    @Param({ "0", "10" })
+    int mappings;
+
+    StartupWorkload workload;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        workload = StartupWorkload.create(files, mappings);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        workload.delete();
+    }
+
+    @Benchmark
+    public SmallRyeConfig build() {
+        return workload.build();
+    }
+}
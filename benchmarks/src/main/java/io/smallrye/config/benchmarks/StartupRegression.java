@@ -0,0 +1,237 @@
+package io.smallrye.config.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+import io.smallrye.config.SmallRyeConfigBuilder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Measures the cold {@link SmallRyeConfigBuilder#build()} of the {@link StartupWorkload} in a number of fresh JVMs,
+ * and fails if the median time of a phase of the build, relative to a baseline measured in the same run, exceeds its
+ * threshold in {@code startup-thresholds.properties}.
+ * <p>
+ *
+ * Each forked JVM builds the configuration once, in a Flight Recorder recording of the configuration events, and
+ * reports the time of each phase:
+ * <ul>
+ * <li>{@code discovery}: the discovery of the sources, interceptors and converters, without parsing</li>
+ * <li>{@code parsing}: the load of every source from a file</li>
+ * <li>{@code chain}: the build of the interceptor chain, with the late and profile sources, without parsing</li>
+ * <li>{@code mapping}: the mapping of the configuration to the mappings</li>
+ * <li>{@code total}: the whole build, including the generation of the mapping classes</li>
+ * </ul>
+ *
+ * The baseline is the median time of {@link StartupWorkload#load()} in as many other fresh JVMs, alternated with the
+ * forks of the build: a read of the same files, parsed with the JDK only. The thresholds are ratios to the baseline,
+ * so they hold on machines of different speeds, and a slower machine or a loaded run slows down both measures.
+ * <p>
+ *
+ * The number of forks, files and mappings are set with the {@code startup.forks}, {@code startup.files} and
+ * {@code startup.mappings} system properties. The benchmarks module is only part of the build with the
+ * {@code benchmarks} profile, and the regression runs with the {@code startup} profile of the module, like
+ * {@code mvn verify -Pbenchmarks,startup -pl benchmarks -am}.
+ */
+public class StartupRegression {
+    static final String[] PHASES = { "discovery", "parsing", "chain", "mapping", "total" };
+
+    private static final String CHILD = "--child";
+    private static final String BASELINE = "--baseline";
+    private static final String RESULT = "startup:";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 3 && CHILD.equals(args[0])) {
+            child(Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+            return;
+        }
+        if (args.length == 3 && BASELINE.equals(args[0])) {
+            baseline(Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+            return;
+        }
+
+        final int forks = Integer.getInteger("startup.forks", 10);
+        final int files = Integer.getInteger("startup.files", 10);
+        final int mappings = Integer.getInteger("startup.mappings", 10);
+
+        final long[] baselines = new long[forks];
+        final long[][] results = new long[PHASES.length][forks];
+        for (int i = 0; i < forks; i++) {
+            baselines[i] = fork(BASELINE, files, mappings, 1)[0];
+            final long[] result = fork(CHILD, files, mappings, PHASES.length);
+            for (int j = 0; j < PHASES.length; j++) {
+                results[j][i] = result[j];
+            }
+        }
+        Arrays.sort(baselines);
+        final double baseline = millis(baselines[forks / 2]);
+
+        final Properties thresholds = thresholds();
+        final List<String> failures = new ArrayList<>();
+        System.out.printf(Locale.ROOT, "Startup of %d files and %d mappings, in %d forks%n", files, mappings, forks);
+        System.out.printf(Locale.ROOT, "Baseline of %.2f ms (%.2f ms to %.2f ms)%n", baseline, millis(baselines[0]),
+                millis(baselines[forks - 1]));
+        System.out.printf(Locale.ROOT, "%-10s %10s %10s %10s %10s %10s%n", "phase", "min ms", "median ms", "max ms",
+                "ratio", "limit");
+        for (int i = 0; i < PHASES.length; i++) {
+            final long[] nanos = results[i];
+            Arrays.sort(nanos);
+            final double median = millis(nanos[nanos.length / 2]);
+            final double ratio = median / baseline;
+            final double threshold = Double.parseDouble(thresholds.getProperty(PHASES[i]));
+            System.out.printf(Locale.ROOT, "%-10s %10.2f %10.2f %10.2f %10.2f %10.2f%n", PHASES[i], millis(nanos[0]),
+                    median, millis(nanos[nanos.length - 1]), ratio, threshold);
+            if (ratio > threshold) {
+                failures.add(String.format(Locale.ROOT, "%s: %.2f x baseline > %.2f", PHASES[i], ratio, threshold));
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            System.err.println("Startup regression: " + String.join(", ", failures));
+            System.exit(1);
+        }
+    }
+
+    private static long[] fork(final String mode, final int files, final int mappings, final int results)
+            throws IOException, InterruptedException {
+        final Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        final Process process = new ProcessBuilder(java.toString(), "-cp", System.getProperty("java.class.path"),
+                StartupRegression.class.getName(), mode, String.valueOf(files), String.valueOf(mappings))
+                        .redirectErrorStream(true)
+                        .start();
+
+        long[] result = null;
+        final List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT)) {
+                    result = Arrays.stream(line.substring(RESULT.length()).trim().split(" "))
+                            .mapToLong(Long::parseLong)
+                            .toArray();
+                } else {
+                    output.add(line);
+                }
+            }
+        }
+
+        if (process.waitFor() != 0 || result == null || result.length != results) {
+            throw new IllegalStateException("The startup fork failed:\n" + String.join("\n", output));
+        }
+        return result;
+    }
+
+    private static void child(final int files, final int mappings) throws IOException {
+        final StartupWorkload workload = StartupWorkload.create(files, mappings);
+        final Path file = Files.createTempFile("smallrye-config-startup", ".jfr");
+        try {
+            final long total;
+            try (Recording recording = new Recording()) {
+                for (String event : new String[] { "Build", "SourceLoad", "Mapping" }) {
+                    recording.enable("io.smallrye.config." + event).withoutThreshold().withoutStackTrace();
+                }
+                recording.start();
+                final long start = System.nanoTime();
+                workload.build();
+                total = System.nanoTime() - start;
+                recording.stop();
+                recording.dump(file);
+            }
+
+            final long[] result = phases(RecordingFile.readAllEvents(file));
+            result[PHASES.length - 1] = total;
+            final StringBuilder line = new StringBuilder(RESULT);
+            for (long nanos : result) {
+                line.append(' ').append(nanos);
+            }
+            System.out.println(line);
+        } finally {
+            Files.deleteIfExists(file);
+            workload.delete();
+        }
+    }
+
+    private static void baseline(final int files, final int mappings) {
+        final StartupWorkload workload = StartupWorkload.create(files, mappings);
+        try {
+            final long start = System.nanoTime();
+            final int properties = workload.load();
+            final long nanos = System.nanoTime() - start;
+            if (properties == 0) {
+                throw new IllegalStateException("The baseline did not read any property");
+            }
+            System.out.println(RESULT + " " + nanos);
+        } finally {
+            workload.delete();
+        }
+    }
+
+    /**
+     * The time of each phase, with the load of the sources in the discovery and the chain only counted as parsing.
+     */
+    static long[] phases(final List<RecordedEvent> events) {
+        final long[] result = new long[PHASES.length];
+        final List<RecordedEvent> loads = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if ("io.smallrye.config.SourceLoad".equals(event.getEventType().getName())) {
+                loads.add(event);
+                result[1] += event.getDuration().toNanos();
+            }
+        }
+
+        for (RecordedEvent event : events) {
+            final String name = event.getEventType().getName();
+            if ("io.smallrye.config.Build".equals(name)) {
+                final int phase = "discovery".equals(event.getString("phase")) ? 0 : 2;
+                result[phase] += event.getDuration().toNanos() - nested(event, loads);
+            } else if ("io.smallrye.config.Mapping".equals(name)) {
+                result[3] += event.getDuration().toNanos();
+            }
+        }
+        return result;
+    }
+
+    private static long nested(final RecordedEvent event, final List<RecordedEvent> loads) {
+        long nanos = 0;
+        for (RecordedEvent load : loads) {
+            final Instant start = load.getStartTime();
+            if (!start.isBefore(event.getStartTime()) && !load.getEndTime().isAfter(event.getEndTime())) {
+                nanos += load.getDuration().toNanos();
+            }
+        }
+        return nanos;
+    }
+
+    private static Properties thresholds() throws IOException {
+        final Properties thresholds = new Properties();
+        try (InputStream in = StartupRegression.class.getResourceAsStream("/startup-thresholds.properties")) {
+            thresholds.load(in);
+        }
+        for (String phase : PHASES) {
+            final String threshold = System.getProperty("startup.threshold." + phase);
+            if (threshold != null) {
+                thresholds.setProperty(phase, threshold);
+            }
+        }
+        return thresholds;
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / (double) Duration.ofMillis(1).toNanos();
+    }
+}
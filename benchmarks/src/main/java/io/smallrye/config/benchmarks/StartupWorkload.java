@@ -0,0 +1,158 @@
+package io.smallrye.config.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.config.WithDefault;
+
+/**
+ * The configuration of an application at startup: a number of classpath roots, each with a
+ * {@code META-INF/microprofile-config.properties}, a {@code prod} profile variant of it and a
+ * {@code META-INF/microprofile-config.yaml}, discovered by a {@link SmallRyeConfigBuilder} with the default and the
+ * discovered sources, and a number of {@link Root} mappings.
+ */
+final class StartupWorkload {
+    static final String PROFILE = "prod";
+    static final int PROPERTIES = 20;
+
+    private final Path directory;
+    private final URLClassLoader classLoader;
+    private final int mappings;
+
+    private StartupWorkload(final Path directory, final URLClassLoader classLoader, final int mappings) {
+        this.directory = directory;
+        this.classLoader = classLoader;
+        this.mappings = mappings;
+    }
+
+    static StartupWorkload create(final int files, final int mappings) {
+        try {
+            final Path directory = Files.createTempDirectory("smallrye-config-startup");
+            final URL[] roots = new URL[files];
+            for (int i = 0; i < files; i++) {
+                final Path root = directory.resolve("root" + i);
+                final Path metaInf = Files.createDirectories(root.resolve("META-INF"));
+                writeProperties(metaInf.resolve("microprofile-config.properties"), i, "value", i == 0 ? mappings : 0);
+                writeProperties(metaInf.resolve("microprofile-config-" + PROFILE + ".properties"), i, PROFILE, 0);
+                writeYaml(metaInf.resolve("microprofile-config.yaml"), i);
+                roots[i] = toURL(root);
+            }
+            return new StartupWorkload(directory, new URLClassLoader(roots, StartupWorkload.class.getClassLoader()),
+                    mappings);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    SmallRyeConfig build() {
+        final SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .forClassLoader(classLoader)
+                .addDefaultSources()
+                .addDiscoveredSources()
+                .addDefaultInterceptors()
+                .withProfile(PROFILE);
+        for (int i = 0; i < mappings; i++) {
+            builder.withMapping(Root.class, "root" + i);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads every file of the workload with the class loader, and parses each one with {@link Properties}, with only
+     * the JDK. In a fresh JVM, it calibrates the cost of the class loading and the I/O of the startup on the machine
+     * running the workload.
+     *
+     * @return the number of properties read
+     */
+    int load() {
+        int properties = 0;
+        try {
+            for (String resource : new String[] { "META-INF/microprofile-config.properties",
+                    "META-INF/microprofile-config-" + PROFILE + ".properties", "META-INF/microprofile-config.yaml" }) {
+                final Enumeration<URL> urls = classLoader.getResources(resource);
+                while (urls.hasMoreElements()) {
+                    try (InputStream in = urls.nextElement().openStream()) {
+                        final Properties loaded = new Properties();
+                        loaded.load(in);
+                        properties += loaded.size();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+
+    void delete() {
+        try {
+            classLoader.close();
+            try (Stream<Path> paths = Files.walk(directory)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeProperties(final Path file, final int index, final String value, final int mappings)
+            throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < PROPERTIES; i++) {
+                writer.write("file" + index + ".prop" + i + "=" + value + i + "\n");
+                writer.write("%" + PROFILE + ".file" + index + ".profile" + i + "=" + value + i + "\n");
+            }
+            for (int i = 0; i < mappings; i++) {
+                writer.write("root" + i + ".name=root" + i + "\n");
+                writer.write("root" + i + ".port=" + (8080 + i) + "\n");
+                writer.write("root" + i + ".url=http://${root" + i + ".name}:${root" + i + ".port}\n");
+            }
+        }
+    }
+
+    private static void writeYaml(final Path file, final int index) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("yaml" + index + ":\n");
+            for (int i = 0; i < PROPERTIES; i++) {
+                writer.write("  group" + i + ":\n");
+                writer.write("    name: value" + i + "\n");
+                writer.write("    list:\n");
+                writer.write("      - first\n");
+                writer.write("      - second\n");
+            }
+        }
+    }
+
+    private static URL toURL(final Path path) {
+        try {
+            return path.toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public interface Root {
+        String name();
+
+        int port();
+
+        String url();
+
+        @WithDefault("30")
+        int timeout();
+    }
+}
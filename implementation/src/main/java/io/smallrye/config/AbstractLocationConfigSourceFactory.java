@@ -29,4 +29,12 @@ public abstract class AbstractLocationConfigSourceFactory extends AbstractLocati
 
         return loadConfigSources(newArrayConverter(STRING_CONVERTER, String[].class).convert(value.getValue()));
     }
+
+    /**
+     * The locations are only loaded, so the factory is independent, unless a subclass depends on other factories.
+     */
+    @Override
+    public boolean isIndependent() {
+        return true;
+    }
 }
@@ -203,8 +203,11 @@ public abstract class AbstractLocationConfigSourceLoader {
 
     private ConfigSource addConfigSource(final URL url, final List<ConfigSource> configSources) {
         try {
-            configSources.add(loadConfigSource(url));
-            return loadConfigSource(url);
+            final Object event = ConfigEvents.beginSourceLoad();
+            final ConfigSource configSource = loadConfigSource(url);
+            ConfigEvents.commitSourceLoad(event, url, configSource);
+            configSources.add(configSource);
+            return configSource;
         } catch (IOException e) {
             throw ConfigMessages.msg.failedToLoadResource(e);
         }
@@ -213,7 +216,10 @@ public abstract class AbstractLocationConfigSourceLoader {
     private void addProfileConfigSource(final URL profileToFileName, final int ordinal,
             final List<ConfigSource> profileSources) {
         try {
-            profileSources.add(loadConfigSource(profileToFileName, ordinal));
+            final Object event = ConfigEvents.beginSourceLoad();
+            final ConfigSource configSource = loadConfigSource(profileToFileName, ordinal);
+            ConfigEvents.commitSourceLoad(event, profileToFileName, configSource);
+            profileSources.add(configSource);
         } catch (FileNotFoundException | NoSuchFileException e) {
             // It is ok to not find the resource here, because it is an optional profile resource.
         } catch (IOException e) {
@@ -315,5 +321,10 @@ public abstract class AbstractLocationConfigSourceLoader {
         }
 
         Iterable<ConfigSource> getProfileConfigSources(final List<String> profiles);
+
+        @Override
+        default boolean isIndependent() {
+            return true;
+        }
     }
 }
@@ -0,0 +1,75 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * A Bloom filter of property names, with three probes derived from a single 32-bit hash of the name. By default the
+ * hash is {@link String#hashCode()}, which is cached by the {@link String} itself, so a check does not iterate the
+ * name characters.
+ */
+class BloomPropertyNamesFilter implements PropertyNamesFilter, Serializable {
+    private static final long serialVersionUID = -8406006452924287640L;
+
+    private static final int BITS_PER_NAME = 10;
+    private static final int MIN_BITS_LOG = 6;
+    private static final int MAX_BITS_LOG = 30;
+
+    private final long[] bits;
+    private final int shift;
+
+    BloomPropertyNamesFilter(final Collection<String> names) {
+        int bitsLog = MIN_BITS_LOG;
+        final long required = (long) names.size() * BITS_PER_NAME;
+        while (bitsLog < MAX_BITS_LOG && (1L << bitsLog) < required) {
+            bitsLog++;
+        }
+        this.bits = new long[1 << (bitsLog - 6)];
+        this.shift = 32 - bitsLog;
+
+        for (String name : names) {
+            final int hash = hash(name);
+            set(probe1(hash));
+            set(probe2(hash));
+            set(probe3(hash));
+        }
+    }
+
+    @Override
+    public boolean mayContain(final String name) {
+        final int hash = hash(name);
+        return isSet(probe1(hash)) && isSet(probe2(hash)) && isSet(probe3(hash));
+    }
+
+    /**
+     * The hash of a name. Subclasses may override it to hash a normalized form of the name, as long as two names that
+     * may resolve to the same property produce the same hash. Called from the constructor, so it must not depend on
+     * subclass state.
+     *
+     * @param name the property name
+     * @return the hash of the name
+     */
+    int hash(final String name) {
+        return name.hashCode();
+    }
+
+    private int probe1(final int hash) {
+        return (hash * 0x9E3779B9) >>> shift;
+    }
+
+    private int probe2(final int hash) {
+        return ((hash ^ (hash >>> 16)) * 0x85EBCA6B) >>> shift;
+    }
+
+    private int probe3(final int hash) {
+        return ((hash ^ (hash >>> 13)) * 0xC2B2AE35) >>> shift;
+    }
+
+    private void set(final int bit) {
+        bits[bit >>> 6] |= 1L << bit;
+    }
+
+    private boolean isSet(final int bit) {
+        return (bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+}
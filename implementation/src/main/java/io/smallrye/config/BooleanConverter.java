@@ -0,0 +1,28 @@
+package io.smallrye.config;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A {@link Converter} of Boolean values, that also converts to a primitive {@code boolean}, without boxing the result.
+ * The built-in {@link Boolean} converter implements this interface, and it is used by
+ * {@link SmallRyeConfig#getBoolean(String)}.
+ */
+@Experimental("Primitive configuration getters")
+@FunctionalInterface
+public interface BooleanConverter extends Converter<Boolean> {
+    /**
+     * Converts a configuration value to a primitive {@code boolean}.
+     *
+     * @param value the String representation of the property value
+     * @return the converted value
+     * @throws IllegalArgumentException if the value cannot be converted to a {@code boolean}
+     */
+    boolean convertBoolean(String value);
+
+    @Override
+    default Boolean convert(final String value) {
+        return convertBoolean(value);
+    }
+}
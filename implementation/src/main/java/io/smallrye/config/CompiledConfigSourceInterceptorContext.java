@@ -0,0 +1,245 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link ConfigSourceInterceptorContext} that lays out the interceptor chain in flat arrays instead of a linked list
+ * of {@link SmallRyeConfigSourceInterceptorContext}. Each position of the chain is either a single
+ * {@link ConfigSourceInterceptor}, or a run of consecutive {@link ConfigValueConfigSource}, which are queried in a
+ * single loop, instead of going through a {@link SmallRyeConfigSourceInterceptor} and a context for each source. The
+ * loop skips the sources with a {@link PropertyNamesFilter} that excludes the name.
+ * <p>
+ *
+ * Every position keeps its own context instance (required, because interceptors receive the context to proceed), but
+ * the dispatch is done by index on the shared arrays.
+ */
+class CompiledConfigSourceInterceptorContext implements ConfigSourceInterceptorContext {
+    private static final long serialVersionUID = -6462049432431452618L;
+
+    private final Chain chain;
+    private final int index;
+
+    private CompiledConfigSourceInterceptorContext(final Chain chain, final int index) {
+        this.chain = chain;
+        this.index = index;
+    }
+
+    @Override
+    public ConfigValue proceed(final String name) {
+        final Chain chain = this.chain;
+        final int index = this.index;
+        if (index == chain.length) {
+            return null;
+        }
+
+        final ConfigSourceInterceptor interceptor = chain.interceptors[index];
+        if (interceptor != null) {
+            return interceptor.getValue(chain.contexts[index + 1], name);
+        }
+
+        final ConfigValueConfigSource[] sources = chain.sources[index];
+        final PropertyNamesFilter[] filters = chain.filters[index];
+        for (int i = 0; i < sources.length; i++) {
+            final PropertyNamesFilter filter = filters[i];
+            if (filter != null && !filter.mayContain(name)) {
+                continue;
+            }
+
+            final ConfigValue configValue = sources[i].getConfigValue(name);
+            if (configValue != null) {
+                return configValue;
+            }
+        }
+
+        return chain.contexts[index + 1].proceed(name);
+    }
+
+    @Override
+    public ConfigValue proceed(final ConfigKey key) {
+        final Chain chain = this.chain;
+        final int index = this.index;
+        if (index == chain.length) {
+            return null;
+        }
+
+        final ConfigSourceInterceptor interceptor = chain.interceptors[index];
+        if (interceptor != null) {
+            return interceptor.getValue(chain.contexts[index + 1], key);
+        }
+
+        final ConfigValueConfigSource[] sources = chain.sources[index];
+        final PropertyNamesFilter[] filters = chain.filters[index];
+        for (int i = 0; i < sources.length; i++) {
+            final PropertyNamesFilter filter = filters[i];
+            if (filter != null && !filter.mayContain(key.getName())) {
+                continue;
+            }
+
+            final ConfigValue configValue = sources[i].getConfigValue(key);
+            if (configValue != null) {
+                return configValue;
+            }
+        }
+
+        return chain.contexts[index + 1].proceed(key);
+    }
+
+    @Override
+    public Map<String, ConfigValue> proceed(final Collection<String> names) {
+        final Chain chain = this.chain;
+        final int index = this.index;
+        if (index == chain.length) {
+            return Collections.emptyMap();
+        }
+
+        final ConfigSourceInterceptor interceptor = chain.interceptors[index];
+        if (interceptor != null) {
+            return interceptor.getValues(chain.contexts[index + 1], names);
+        }
+
+        final ConfigValueConfigSource[] sources = chain.sources[index];
+        final PropertyNamesFilter[] filters = chain.filters[index];
+        final Map<String, ConfigValue> values = new HashMap<>();
+        Collection<String> remaining = names;
+        for (int i = 0; i < sources.length; i++) {
+            final Map<String, ConfigValue> sourceValues = SmallRyeConfigSourceInterceptor.getConfigValues(sources[i],
+                    filters[i], remaining);
+            if (!sourceValues.isEmpty()) {
+                values.putAll(sourceValues);
+                remaining = SmallRyeConfigSourceInterceptor.remaining(remaining, values);
+                if (remaining.isEmpty()) {
+                    return values;
+                }
+            }
+        }
+
+        values.putAll(chain.contexts[index + 1].proceed(remaining));
+        return values;
+    }
+
+    @Override
+    public Iterator<String> iterateNames() {
+        if (index == chain.length) {
+            return ConfigSourceInterceptor.EMPTY.iterateNames(this);
+        }
+
+        final ConfigSourceInterceptor interceptor = chain.interceptors[index];
+        if (interceptor != null) {
+            return interceptor.iterateNames(chain.contexts[index + 1]);
+        }
+
+        final Set<String> names = new HashSet<>();
+        final Iterator<String> namesIterator = chain.contexts[index + 1].iterateNames();
+        while (namesIterator.hasNext()) {
+            names.add(namesIterator.next());
+        }
+        for (ConfigValueConfigSource source : chain.sources[index]) {
+            names.addAll(source.getPropertyNames());
+        }
+        return names.iterator();
+    }
+
+    @Override
+    public Iterator<ConfigValue> iterateValues() {
+        if (index == chain.length) {
+            return ConfigSourceInterceptor.EMPTY.iterateValues(this);
+        }
+
+        final ConfigSourceInterceptor interceptor = chain.interceptors[index];
+        if (interceptor != null) {
+            return interceptor.iterateValues(chain.contexts[index + 1]);
+        }
+
+        final Set<ConfigValue> values = new HashSet<>();
+        final Iterator<ConfigValue> valuesIterator = chain.contexts[index + 1].iterateValues();
+        while (valuesIterator.hasNext()) {
+            values.add(valuesIterator.next());
+        }
+        for (ConfigValueConfigSource source : chain.sources[index]) {
+            values.addAll(source.getConfigValueProperties().values());
+        }
+        return values.iterator();
+    }
+
+    /**
+     * Compiles the interceptor chain.
+     *
+     * @param interceptors the interceptors of the chain, ordered from the first to execute to the last.
+     * @return the head {@link ConfigSourceInterceptorContext} of the compiled chain.
+     */
+    static CompiledConfigSourceInterceptorContext compile(final List<ConfigSourceInterceptor> interceptors) {
+        final List<ConfigSourceInterceptor> compiledInterceptors = new ArrayList<>();
+        final List<ConfigValueConfigSource[]> compiledSources = new ArrayList<>();
+        final List<PropertyNamesFilter[]> compiledFilters = new ArrayList<>();
+
+        final List<SmallRyeConfigSourceInterceptor> run = new ArrayList<>();
+        for (ConfigSourceInterceptor interceptor : interceptors) {
+            if (interceptor instanceof SmallRyeConfigSourceInterceptor) {
+                run.add((SmallRyeConfigSourceInterceptor) interceptor);
+            } else {
+                if (!run.isEmpty()) {
+                    addSources(run, compiledInterceptors, compiledSources, compiledFilters);
+                    run.clear();
+                }
+                compiledInterceptors.add(interceptor);
+                compiledSources.add(null);
+                compiledFilters.add(null);
+            }
+        }
+        if (!run.isEmpty()) {
+            addSources(run, compiledInterceptors, compiledSources, compiledFilters);
+        }
+
+        return new Chain(compiledInterceptors.toArray(new ConfigSourceInterceptor[0]),
+                compiledSources.toArray(new ConfigValueConfigSource[0][]),
+                compiledFilters.toArray(new PropertyNamesFilter[0][])).contexts[0];
+    }
+
+    private static void addSources(
+            final List<SmallRyeConfigSourceInterceptor> run,
+            final List<ConfigSourceInterceptor> compiledInterceptors,
+            final List<ConfigValueConfigSource[]> compiledSources,
+            final List<PropertyNamesFilter[]> compiledFilters) {
+
+        final ConfigValueConfigSource[] sources = new ConfigValueConfigSource[run.size()];
+        final PropertyNamesFilter[] filters = new PropertyNamesFilter[run.size()];
+        for (int i = 0; i < run.size(); i++) {
+            sources[i] = run.get(i).getConfigValueConfigSource();
+            filters[i] = run.get(i).getPropertyNamesFilter();
+        }
+        compiledInterceptors.add(null);
+        compiledSources.add(sources);
+        compiledFilters.add(filters);
+    }
+
+    private static final class Chain implements Serializable {
+        private static final long serialVersionUID = 2519296785931536476L;
+
+        private final int length;
+        private final ConfigSourceInterceptor[] interceptors;
+        private final ConfigValueConfigSource[][] sources;
+        private final PropertyNamesFilter[][] filters;
+        private final CompiledConfigSourceInterceptorContext[] contexts;
+
+        Chain(final ConfigSourceInterceptor[] interceptors, final ConfigValueConfigSource[][] sources,
+                final PropertyNamesFilter[][] filters) {
+            this.length = interceptors.length;
+            this.interceptors = interceptors;
+            this.sources = sources;
+            this.filters = filters;
+            this.contexts = new CompiledConfigSourceInterceptorContext[length + 1];
+            for (int i = 0; i <= length; i++) {
+                this.contexts[i] = new CompiledConfigSourceInterceptorContext(this, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.smallrye.config;
+
+import java.net.URL;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * Emits the Java Flight Recorder events of the configuration, with {@link JfrConfigEvents}, if the Flight Recorder
+ * API is available in the running JVM. Otherwise, every method does nothing, and {@link JfrConfigEvents} is never
+ * loaded.
+ * <p>
+ *
+ * Each event is started with a {@code begin} method, which returns {@code null} if the event is not enabled in a
+ * recording, and completed with the matching {@code commit} method, which ignores a {@code null} event. An event that
+ * is not recorded only costs the check of the event type.
+ */
+final class ConfigEvents {
+    private static final boolean AVAILABLE = isAvailable();
+
+    private ConfigEvents() {
+        throw new UnsupportedOperationException();
+    }
+
+    static Object beginLookup() {
+        return AVAILABLE ? JfrConfigEvents.beginLookup() : null;
+    }
+
+    /**
+     * @return the {@link ConfigValue} of the lookup, to complete the event in the return statement of the lookup
+     */
+    static ConfigValue commitLookup(final Object event, final ConfigValue configValue, final boolean cacheHit) {
+        if (event != null) {
+            JfrConfigEvents.commitLookup(event, configValue, cacheHit);
+        }
+        return configValue;
+    }
+
+    static Object beginSourceLoad() {
+        return AVAILABLE ? JfrConfigEvents.beginSourceLoad() : null;
+    }
+
+    static void commitSourceLoad(final Object event, final URL url, final ConfigSource configSource) {
+        if (event != null) {
+            JfrConfigEvents.commitSourceLoad(event, url, configSource);
+        }
+    }
+
+    static Object beginBuild() {
+        return AVAILABLE ? JfrConfigEvents.beginBuild() : null;
+    }
+
+    static void commitBuild(final Object event, final String phase, final int sources, final int interceptors) {
+        if (event != null) {
+            JfrConfigEvents.commitBuild(event, phase, sources, interceptors);
+        }
+    }
+
+    static Object beginMapping() {
+        return AVAILABLE ? JfrConfigEvents.beginMapping() : null;
+    }
+
+    static void commitMapping(final Object event, final int roots, final int properties) {
+        if (event != null) {
+            JfrConfigEvents.commitMapping(event, roots, properties);
+        }
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ConfigEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
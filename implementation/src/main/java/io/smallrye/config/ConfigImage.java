@@ -0,0 +1,368 @@
+package io.smallrye.config;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A binary image of the static sources of a {@link SmallRyeConfig}, to skip the discovery and parsing of the sources
+ * on the next startup, with {@link SmallRyeConfigBuilder#withConfigImage(Path, String)}.
+ * <p>
+ *
+ * The image only records the sources that implement {@link RecordableSource}, loaded from a {@code file:} or a
+ * {@code jar:} location, and without any of the secret keys of the configuration. Any other source, like the
+ * environment variables, the system properties, the default values, a remote source or a source with secrets, may
+ * change between two startups or must not be written to disk, and is added again to the configuration built with the
+ * image. For each source, the image records the name, the ordinal, the location with its last modified time, and the
+ * values with their line numbers.
+ * <p>
+ *
+ * The {@code microprofile-config.properties} resources of the class loader are still listed when the image is used,
+ * but only the resources that are not recorded in the image are loaded, so a resource added since the image was
+ * written, or a resource with secrets, is not lost.
+ * <p>
+ *
+ * The image starts with a version of the format and a checksum of the content, followed by a stamp provided by the
+ * caller (like the version of the application). An image with a different format version or stamp, or with a
+ * location that was modified or removed since the image was written, is stale, and an image with a checksum that does
+ * not match the content is corrupted. In both cases the image is ignored, and the sources must be discovered again.
+ */
+@Experimental("Binary image of the configuration sources")
+public final class ConfigImage {
+    static final int MAGIC = 0x53524349;
+    static final int VERSION = 2;
+
+    private static final int HEADER_SIZE = 4 + 4 + 8;
+
+    private ConfigImage() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Writes the image of the static sources of a {@link SmallRyeConfig}. The image is written to a temporary file
+     * first, and then moved to the image path, so a concurrent read never sees a partial image.
+     *
+     * @param config the configuration to record
+     * @param image the path of the image
+     * @param stamp a stamp to identify the inputs of the image, checked when the image is read
+     * @throws IOException if the image cannot be written
+     */
+    public static void write(final SmallRyeConfig config, final Path image, final String stamp) throws IOException {
+        final List<ConfigSource> configSources = new ArrayList<>();
+        final List<URL> locations = new ArrayList<>();
+        final List<Long> lastModifiedTimes = new ArrayList<>();
+        for (ConfigSource configSource : config.getConfigSources()) {
+            if (configSource instanceof RecordableSource) {
+                final URL location = ((RecordableSource) configSource).getLocation();
+                final long lastModified = location != null ? lastModified(location) : -1;
+                if (lastModified != -1 && !hasSecretKeys(configSource, config)) {
+                    configSources.add(configSource);
+                    locations.add(location);
+                    lastModifiedTimes.add(lastModified);
+                }
+            }
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream payload = new DataOutputStream(bytes);
+        writeString(payload, stamp);
+        payload.writeInt(configSources.size());
+        for (int i = 0; i < configSources.size(); i++) {
+            final ConfigSource configSource = configSources.get(i);
+            writeString(payload, configSource.getName());
+            payload.writeInt(configSource.getOrdinal());
+            writeString(payload, locations.get(i).toString());
+            payload.writeLong(lastModifiedTimes.get(i));
+            writeValues(payload, configSource, config);
+        }
+        payload.flush();
+
+        final byte[] data = bytes.toByteArray();
+        final CRC32 checksum = new CRC32();
+        checksum.update(data, 0, data.length);
+
+        final Path absoluteImage = image.toAbsolutePath();
+        final Path temp = Files.createTempFile(absoluteImage.getParent(), absoluteImage.getFileName().toString(),
+                ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(checksum.getValue());
+                out.write(data);
+            }
+            Files.move(temp, absoluteImage, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads the sources recorded in an image, with a memory mapped read of the image file.
+     *
+     * @param image the path of the image
+     * @param stamp the expected stamp of the image
+     * @return the sources recorded in the image, or an empty List if the image does not exist, is stale or is
+     *         corrupted
+     */
+    public static List<ConfigSource> read(final Path image, final String stamp) {
+        if (!Files.isRegularFile(image)) {
+            return Collections.emptyList();
+        }
+
+        try (FileChannel channel = FileChannel.open(image, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                ConfigLogging.log.corruptedConfigImage(image.toString());
+                return Collections.emptyList();
+            }
+            if (buffer.getInt() != VERSION) {
+                ConfigLogging.log.staleConfigImage(image.toString());
+                return Collections.emptyList();
+            }
+
+            final long expectedChecksum = buffer.getLong();
+            final CRC32 checksum = new CRC32();
+            checksum.update(buffer.slice());
+            if (checksum.getValue() != expectedChecksum) {
+                ConfigLogging.log.corruptedConfigImage(image.toString());
+                return Collections.emptyList();
+            }
+
+            if (!Objects.equals(stamp, readString(buffer))) {
+                ConfigLogging.log.staleConfigImage(image.toString());
+                return Collections.emptyList();
+            }
+
+            final int size = buffer.getInt();
+            final List<ConfigSource> configSources = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                final String name = readString(buffer);
+                final int ordinal = buffer.getInt();
+                final URL location = new URL(readString(buffer));
+                if (lastModified(location) != buffer.getLong()) {
+                    ConfigLogging.log.staleConfigImage(image.toString());
+                    return Collections.emptyList();
+                }
+                configSources.add(new ConfigImageConfigSource(name, ordinal, location.toString(),
+                        readValues(buffer, name, ordinal)));
+            }
+            return configSources;
+        } catch (BufferUnderflowException | MalformedURLException e) {
+            ConfigLogging.log.corruptedConfigImage(image.toString());
+            return Collections.emptyList();
+        } catch (IOException e) {
+            throw ConfigMessages.msg.failedToReadConfigImage(e, image.toString());
+        }
+    }
+
+    private static void writeValues(final DataOutputStream out, final ConfigSource configSource,
+            final SmallRyeConfig config) throws IOException {
+        final Map<String, ConfigValue> properties = new LinkedHashMap<>();
+        if (configSource instanceof ConfigValueConfigSource) {
+            properties.putAll(((ConfigValueConfigSource) configSource).getConfigValueProperties());
+        } else {
+            for (Map.Entry<String, String> property : configSource.getProperties().entrySet()) {
+                properties.put(property.getKey(), ConfigValue.builder().withValue(property.getValue()).build());
+            }
+        }
+
+        out.writeInt(properties.size());
+        for (Map.Entry<String, ConfigValue> property : properties.entrySet()) {
+            writeString(out, property.getKey());
+            writeString(out, property.getValue().getValue());
+            out.writeInt(property.getValue().getLineNumber());
+        }
+    }
+
+    private static boolean hasSecretKeys(final ConfigSource configSource, final SmallRyeConfig config) {
+        for (String name : configSource.getPropertyNames()) {
+            if (config.isSecretKey(withoutProfile(name))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String withoutProfile(final String name) {
+        if (!name.isEmpty() && name.charAt(0) == '%') {
+            final int dot = name.indexOf('.');
+            return dot < 0 ? name : name.substring(dot + 1);
+        }
+        return name;
+    }
+
+    /**
+     * Loads the resources of a location in the class loader, like
+     * {@link PropertiesConfigSourceProvider#classPathSources(String, ClassLoader)}, but with the sources recorded in
+     * an image in place of the resources of the same location. The recorded sources that are used are removed from
+     * the recorded sources.
+     *
+     * @param location the location of the resources
+     * @param classLoader the class loader of the resources
+     * @param recorded the sources recorded in an image, by location
+     * @return the sources of the resources
+     */
+    static List<ConfigSource> classPathSources(final String location, final ClassLoader classLoader,
+            final Map<String, ConfigSource> recorded) {
+        return new RecordedSourcesLoader(recorded).loadConfigSources(location, classLoader);
+    }
+
+    /**
+     * The last modified time of a {@code file:} location, or of the archive of a {@code jar:} location.
+     *
+     * @return the last modified time, or {@code -1} if the location is not a file, or does not exist
+     */
+    static long lastModified(final URL location) {
+        try {
+            if ("file".equals(location.getProtocol())) {
+                return Files.getLastModifiedTime(Paths.get(location.toURI())).toMillis();
+            } else if ("jar".equals(location.getProtocol())) {
+                final String path = location.getPath();
+                final int separator = path.indexOf("!/");
+                return separator < 0 ? -1 : lastModified(new URL(path.substring(0, separator)));
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            // not a file, or not an existing one
+        }
+        return -1;
+    }
+
+    private static Map<String, ConfigValue> readValues(final ByteBuffer buffer, final String configSourceName,
+            final int configSourceOrdinal) {
+        final int size = buffer.getInt();
+        final Map<String, ConfigValue> properties = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            final String name = readString(buffer);
+            final String value = readString(buffer);
+            properties.put(name, ConfigValue.builder()
+                    .withName(name)
+                    .withValue(value)
+                    .withRawValue(value)
+                    .withConfigSourceName(configSourceName)
+                    .withConfigSourceOrdinal(configSourceOrdinal)
+                    .withLineNumber(buffer.getInt())
+                    .build());
+        }
+        return properties;
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            final byte[] bytes = value.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * A {@link ConfigSource} loaded from a file, with values that never change once loaded, that may be recorded in
+     * a {@link ConfigImage}. A source only provides its location if its values are the values of the file: a subclass
+     * that changes the values must not provide the location of the file.
+     */
+    @Experimental("Binary image of the configuration sources")
+    public interface RecordableSource extends ConfigSource {
+        /**
+         * @return the location of the file of the source, or {@code null} if the source must not be recorded
+         */
+        URL getLocation();
+    }
+
+    /**
+     * A source recorded in a {@link ConfigImage}. The recorded values never change, so the source provides a
+     * {@link PropertyNamesFilter}.
+     */
+    static final class ConfigImageConfigSource extends MapBackedConfigValueConfigSource {
+        private static final long serialVersionUID = 5086455203935411427L;
+
+        private final int ordinal;
+        private final String location;
+
+        ConfigImageConfigSource(final String name, final int ordinal, final String location,
+                final Map<String, ConfigValue> properties) {
+            super(name, properties, ordinal);
+            this.ordinal = ordinal;
+            this.location = location;
+        }
+
+        @Override
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        String getLocation() {
+            return location;
+        }
+
+        @Override
+        public PropertyNamesFilter getPropertyNamesFilter() {
+            return PropertyNamesFilter.of(getPropertyNames());
+        }
+    }
+
+    /**
+     * Loads the {@code properties} resources of the class path, unless a source of the same location is recorded.
+     */
+    private static final class RecordedSourcesLoader extends AbstractLocationConfigSourceLoader {
+        private final Map<String, ConfigSource> recorded;
+
+        RecordedSourcesLoader(final Map<String, ConfigSource> recorded) {
+            this.recorded = recorded;
+        }
+
+        @Override
+        protected String[] getFileExtensions() {
+            return new String[] { "properties" };
+        }
+
+        @Override
+        protected ConfigSource loadConfigSource(final URL url, final int ordinal) throws IOException {
+            final ConfigSource configSource = recorded.remove(url.toString());
+            return configSource != null ? configSource : new PropertiesConfigSource(url, ordinal);
+        }
+
+        @Override
+        protected List<ConfigSource> tryFileSystem(final URI uri) {
+            return new ArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A precompiled configuration name, created with {@link SmallRyeConfig#key(String)}. The key computes once the forms
+ * of the name required by the lookup, which are otherwise computed on every lookup of the name: the names with the
+ * active profiles, the environment variable names and the segments of the name.
+ * <p>
+ *
+ * A {@link ConfigKey} is immutable and can be shared between threads. It is intended to be kept in a constant, and
+ * used in {@link SmallRyeConfig#getValue(ConfigKey, Class)} and the other lookup methods that accept a key.
+ */
+@Experimental("Precompiled configuration names")
+public final class ConfigKey implements Serializable {
+    private static final long serialVersionUID = -2936479478813286412L;
+
+    private final String name;
+    private final String envName;
+    private final String upperCaseEnvName;
+    private final String[] segments;
+    private transient volatile ProfileKeys profileKeys;
+
+    ConfigKey(final String name) {
+        this.name = name;
+        this.envName = EnvConfigSource.replaceNonAlphanumericByUnderscores(name);
+        this.upperCaseEnvName = envName.toUpperCase();
+        this.segments = segments(name);
+    }
+
+    /**
+     * @return the configuration name of this key
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The name with non alphanumeric characters replaced by underscores.
+     */
+    String getEnvName() {
+        return envName;
+    }
+
+    /**
+     * The name with non alphanumeric characters replaced by underscores, in uppercase.
+     */
+    String getUpperCaseEnvName() {
+        return upperCaseEnvName;
+    }
+
+    /**
+     * The segments of the name, as iterated by {@link NameIterator}, or {@code null} if the name is too long to be
+     * iterated.
+     */
+    String[] getSegments() {
+        return segments;
+    }
+
+    /**
+     * Retrieves the key of the name without a profile, and the keys of the name with each profile. The keys are
+     * computed on the first call for an array of profiles, and reused while the same array of profiles is used.
+     *
+     * @param profiles the profiles, in the lookup order
+     * @return the keys of the name without a profile and with each profile
+     */
+    ProfileKeys getProfileKeys(final String[] profiles) {
+        ProfileKeys profileKeys = this.profileKeys;
+        if (profileKeys == null || profileKeys.profiles != profiles) {
+            final String normalizeName = ProfileConfigSourceInterceptor.normalizeName(name, profiles);
+            final ConfigKey normalizeKey = normalizeName.equals(name) ? this : new ConfigKey(normalizeName);
+            final ConfigKey[] keys = new ConfigKey[profiles.length];
+            for (int i = 0; i < profiles.length; i++) {
+                keys[i] = new ConfigKey("%" + profiles[i] + "." + normalizeName);
+            }
+            profileKeys = new ProfileKeys(profiles, normalizeKey, keys);
+            this.profileKeys = profileKeys;
+        }
+        return profileKeys;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return name.equals(((ConfigKey) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static String[] segments(final String name) {
+        if (name.length() > NameIterator.MAX_LENGTH) {
+            return null;
+        }
+
+        final List<String> segments = new ArrayList<>();
+        final NameIterator ni = new NameIterator(name);
+        while (ni.hasNext()) {
+            segments.add(ni.getNextSegment());
+            ni.next();
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    static final class ProfileKeys {
+        private final String[] profiles;
+        private final ConfigKey normalizeKey;
+        private final ConfigKey[] keys;
+
+        ProfileKeys(final String[] profiles, final ConfigKey normalizeKey, final ConfigKey[] keys) {
+            this.profiles = profiles;
+            this.normalizeKey = normalizeKey;
+            this.keys = keys;
+        }
+
+        ConfigKey getNormalizeKey() {
+            return normalizeKey;
+        }
+
+        ConfigKey[] getKeys() {
+            return keys;
+        }
+    }
+}
@@ -30,4 +30,16 @@ public interface ConfigLogging extends BasicLogger {
     @LogMessage(level = Logger.Level.WARN)
     @Message(id = 1004, value = "Unable to set accessible flag on %s")
     void failedToSetAccessible(@Cause Throwable cause, String accessibleObject);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 1005, value = "The configuration image %s is stale and was ignored")
+    void staleConfigImage(String image);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1006, value = "The configuration image %s is corrupted and was ignored")
+    void corruptedConfigImage(String image);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 1007, value = "The service %s of %s is registered in %s but not in a service index, so it is ignored")
+    void serviceNotIndexed(String implementation, String service, String services);
 }
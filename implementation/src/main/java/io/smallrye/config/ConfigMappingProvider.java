@@ -657,43 +657,52 @@ final class ConfigMappingProvider implements Serializable {
         }
 
         Assert.checkNotNullParam("config", config);
-        ConfigMappingContext context = new ConfigMappingContext(config);
-        // eagerly populate roots
-        for (Map.Entry<String, List<Class<?>>> entry : roots.entrySet()) {
-            String path = entry.getKey();
-            List<Class<?>> roots = entry.getValue();
-            for (Class<?> root : roots) {
-                StringBuilder sb = context.getStringBuilder();
-                sb.replace(0, sb.length(), path);
-                ConfigMappingObject group = (ConfigMappingObject) context.constructGroup(root);
-                context.registerRoot(root, path, group);
+        final Object event = ConfigEvents.beginMapping();
+        int rootCount = 0;
+        int properties = 0;
+        try {
+            ConfigMappingContext context = new ConfigMappingContext(config);
+            // eagerly populate roots
+            for (Map.Entry<String, List<Class<?>>> entry : roots.entrySet()) {
+                String path = entry.getKey();
+                List<Class<?>> roots = entry.getValue();
+                for (Class<?> root : roots) {
+                    StringBuilder sb = context.getStringBuilder();
+                    sb.replace(0, sb.length(), path);
+                    ConfigMappingObject group = (ConfigMappingObject) context.constructGroup(root);
+                    context.registerRoot(root, path, group);
+                    rootCount++;
+                }
             }
-        }
 
-        // lazily sweep
-        for (String name : config.getPropertyNames()) {
-            // filter properties in root
-            if (!isPropertyInRoot(name)) {
-                continue;
-            }
+            // lazily sweep
+            for (String name : config.getPropertyNames()) {
+                properties++;
+                // filter properties in root
+                if (!isPropertyInRoot(name)) {
+                    continue;
+                }
 
-            NameIterator ni = new NameIterator(name);
-            BiConsumer<ConfigMappingContext, NameIterator> action = matchActions.findRootValue(ni);
-            if (action != null) {
-                action.accept(context, ni);
-            } else {
-                if (validateUnknown) {
-                    context.unknownConfigElement(name);
+                NameIterator ni = new NameIterator(name);
+                BiConsumer<ConfigMappingContext, NameIterator> action = matchActions.findRootValue(ni);
+                if (action != null) {
+                    action.accept(context, ni);
+                } else {
+                    if (validateUnknown) {
+                        context.unknownConfigElement(name);
+                    }
                 }
             }
-        }
-        ArrayList<ConfigValidationException.Problem> problems = context.getProblems();
-        if (!problems.isEmpty()) {
-            throw new ConfigValidationException(problems.toArray(ConfigValidationException.Problem.NO_PROBLEMS));
-        }
-        context.fillInOptionals();
+            ArrayList<ConfigValidationException.Problem> problems = context.getProblems();
+            if (!problems.isEmpty()) {
+                throw new ConfigValidationException(problems.toArray(ConfigValidationException.Problem.NO_PROBLEMS));
+            }
+            context.fillInOptionals();
 
-        mappings.registerConfigMappings(context.getRootsMap());
+            mappings.registerConfigMappings(context.getRootsMap());
+        } finally {
+            ConfigEvents.commitMapping(event, rootCount, properties);
+        }
     }
 
     private boolean isPropertyInRoot(String propertyName) {
@@ -131,4 +131,19 @@ public interface ConfigMessages {
 
     @Message(id = 38, value = "Type has no raw type class: %s")
     IllegalArgumentException noRawType(Type type);
+
+    @Message(id = 39, value = "Failed to read the configuration image %s")
+    IllegalStateException failedToReadConfigImage(@Cause Throwable cause, String image);
+
+    @Message(id = 40, value = "The expansion of %s has a cycle: %s")
+    IllegalArgumentException expressionExpansionCycle(String name, String cycle);
+
+    @Message(id = 41, value = "Failed to load %d configuration sources")
+    IllegalStateException failedToLoadSources(int failures, @Cause Throwable cause);
+
+    @Message(id = 42, value = "Failed to load %s of the service index entry %s")
+    IllegalStateException failedToLoadIndexedService(@Cause Throwable cause, String name, String entry);
+
+    @Message(id = 43, value = "The priority of the service index entry %s of %s is not an integer")
+    IllegalStateException malformedIndexedPriority(@Cause Throwable cause, String entry, String index);
 }
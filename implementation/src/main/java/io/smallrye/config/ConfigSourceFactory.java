@@ -36,4 +36,20 @@ public interface ConfigSourceFactory {
     default OptionalInt getPriority() {
         return OptionalInt.empty();
     }
+
+    /**
+     * Returns {@code true} if the factory only depends on the {@link ConfigSourceContext}, and may be initialized
+     * concurrently with other factories. The {@link ConfigSourceContext} of every factory is built from the same
+     * {@code ConfigSources}, so an independent factory gets the same context regardless of the initialization order.
+     * <p>
+     *
+     * Independent factories are initialized concurrently when the configuration is built with
+     * {@link SmallRyeConfigBuilder#withParallelSources(boolean)}. The initialized {@link ConfigSource} are still added
+     * in the priority order of the factories.
+     *
+     * @return {@code true} if the factory may be initialized concurrently with other factories.
+     */
+    default boolean isIndependent() {
+        return false;
+    }
 }
@@ -1,8 +1,11 @@
 package io.smallrye.config;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 
 import io.smallrye.common.annotation.Experimental;
 
@@ -44,6 +47,52 @@ public interface ConfigSourceInterceptor extends Serializable {
      */
     ConfigValue getValue(ConfigSourceInterceptorContext context, String name);
 
+    /**
+     * Intercept the resolution of a precompiled {@link ConfigKey}. Calling
+     * {@link ConfigSourceInterceptorContext#proceed(ConfigKey)} will continue to execute the interceptor chain with the
+     * key, so the next interceptors and the sources can use the forms of the name computed by the key.
+     * <p>
+     *
+     * The default implementation intercepts the name of the key with
+     * {@link ConfigSourceInterceptor#getValue(ConfigSourceInterceptorContext, String)}.
+     *
+     * @param context the interceptor context. See {@link ConfigSourceInterceptorContext}
+     * @param key the configuration key being intercepted.
+     *
+     * @return a {@link ConfigValue} with information about the name, value, config source and ordinal, or {@code null}
+     *         if the value isn't present.
+     */
+    default ConfigValue getValue(ConfigSourceInterceptorContext context, ConfigKey key) {
+        return getValue(context, key.getName());
+    }
+
+    /**
+     * Intercept the resolution of multiple configuration names together. Calling
+     * {@link ConfigSourceInterceptorContext#proceed(Collection)} will continue to execute the interceptor chain with
+     * all the names, which allows the sources to resolve them in a single pass.
+     * <p>
+     *
+     * The default implementation intercepts each name with
+     * {@link ConfigSourceInterceptor#getValue(ConfigSourceInterceptorContext, String)}. Implementations must return the
+     * same values as the resolution of each name.
+     *
+     * @param context the interceptor context. See {@link ConfigSourceInterceptorContext}
+     * @param names the configuration names being intercepted.
+     *
+     * @return a Map of the configuration names that are present, and the corresponding {@link ConfigValue}. Names that
+     *         are not present are not included in the Map.
+     */
+    default Map<String, ConfigValue> getValues(ConfigSourceInterceptorContext context, Collection<String> names) {
+        final Map<String, ConfigValue> values = new HashMap<>();
+        for (String name : names) {
+            final ConfigValue configValue = getValue(context, name);
+            if (configValue != null) {
+                values.put(name, configValue);
+            }
+        }
+        return values;
+    }
+
     /**
      * Intercept the resolution of the configuration names. The Iterator names may be a subset of the
      * total names retrieved from all the registered ConfigSources. Calling
@@ -79,6 +128,17 @@ public interface ConfigSourceInterceptor extends Serializable {
             return null;
         }
 
+        @Override
+        public ConfigValue getValue(final ConfigSourceInterceptorContext context, final ConfigKey key) {
+            return null;
+        }
+
+        @Override
+        public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context,
+                final Collection<String> names) {
+            return Collections.emptyMap();
+        }
+
         @Override
         public Iterator<String> iterateNames(final ConfigSourceInterceptorContext context) {
             return Collections.emptyIterator();
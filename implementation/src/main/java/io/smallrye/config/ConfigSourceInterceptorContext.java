@@ -1,7 +1,10 @@
 package io.smallrye.config;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 
 import io.smallrye.common.annotation.Experimental;
 
@@ -20,6 +23,37 @@ public interface ConfigSourceInterceptorContext extends Serializable {
      */
     ConfigValue proceed(String name);
 
+    /**
+     * Proceeds to the next interceptor in the chain, with a precompiled {@link ConfigKey}. The default implementation
+     * proceeds with the name of the key.
+     *
+     * @param key the configuration key to lookup.
+     * @return a {@link ConfigValue} with information about the name, value, config source and ordinal, or {@code null}
+     *         if the value isn't present.
+     */
+    default ConfigValue proceed(ConfigKey key) {
+        return proceed(key.getName());
+    }
+
+    /**
+     * Proceeds to the next interceptor in the chain, to lookup multiple names together. The default implementation
+     * proceeds with each name with {@link ConfigSourceInterceptorContext#proceed(String)}.
+     *
+     * @param names the configuration names to lookup.
+     * @return a Map of the configuration names that are present, and the corresponding {@link ConfigValue}. Names that
+     *         are not present are not included in the Map.
+     */
+    default Map<String, ConfigValue> proceed(Collection<String> names) {
+        final Map<String, ConfigValue> values = new HashMap<>();
+        for (String name : names) {
+            final ConfigValue configValue = proceed(name);
+            if (configValue != null) {
+                values.put(name, configValue);
+            }
+        }
+        return values;
+    }
+
     /**
      * Proceeds to the next interceptor in the chain.
      *
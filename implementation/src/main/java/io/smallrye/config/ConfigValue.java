@@ -1,6 +1,8 @@
 package io.smallrye.config;
 
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
 
 import io.smallrye.common.annotation.Experimental;
 
@@ -25,14 +27,31 @@ public class ConfigValue implements org.eclipse.microprofile.config.ConfigValue
     private final int configSourceOrdinal;
 
     private final int lineNumber;
+    private final Set<String> dependencies;
 
     private ConfigValue(final ConfigValueBuilder builder) {
-        this.name = builder.name;
-        this.value = builder.value;
-        this.rawValue = builder.rawValue;
-        this.configSourceName = builder.configSourceName;
-        this.configSourceOrdinal = builder.configSourceOrdinal;
-        this.lineNumber = builder.lineNumber;
+        this(builder.name, builder.value, builder.rawValue, builder.configSourceName, builder.configSourceOrdinal,
+                builder.lineNumber);
+    }
+
+    /**
+     * Creates a {@link ConfigValue} directly, without a {@link ConfigValueBuilder}. Used by the sources and
+     * interceptors that create a value on each lookup.
+     */
+    ConfigValue(final String name, final String value, final String rawValue, final String configSourceName,
+            final int configSourceOrdinal, final int lineNumber) {
+        this(name, value, rawValue, configSourceName, configSourceOrdinal, lineNumber, Collections.emptySet());
+    }
+
+    private ConfigValue(final String name, final String value, final String rawValue, final String configSourceName,
+            final int configSourceOrdinal, final int lineNumber, final Set<String> dependencies) {
+        this.name = name;
+        this.value = value;
+        this.rawValue = rawValue;
+        this.configSourceName = configSourceName;
+        this.configSourceOrdinal = configSourceOrdinal;
+        this.lineNumber = lineNumber;
+        this.dependencies = dependencies;
     }
 
     @Override
@@ -76,24 +95,64 @@ public class ConfigValue implements org.eclipse.microprofile.config.ConfigValue
         return lineNumber != -1 ? configSourceName + ":" + lineNumber : configSourceName;
     }
 
+    /**
+     * The names resolved to expand the expressions of the value, including the names resolved by nested expressions.
+     * The expanded value must be expanded again if the value of one of these names changes.
+     *
+     * @return the names resolved to expand the value, or an empty Set if the value has no expressions
+     */
+    Set<String> getDependencies() {
+        return dependencies;
+    }
+
+    // The with methods copy the fields directly, and return the same instance if the field does not change
+
     public ConfigValue withName(final String name) {
-        return from().withName(name).build();
+        if (Objects.equals(this.name, name)) {
+            return this;
+        }
+        return new ConfigValue(name, value, rawValue, configSourceName, configSourceOrdinal, lineNumber,
+                dependencies);
     }
 
     public ConfigValue withValue(final String value) {
-        return from().withValue(value).build();
+        if (Objects.equals(this.value, value)) {
+            return this;
+        }
+        return new ConfigValue(name, value, rawValue, configSourceName, configSourceOrdinal, lineNumber,
+                dependencies);
     }
 
     public ConfigValue withConfigSourceName(final String configSourceName) {
-        return from().withConfigSourceName(configSourceName).build();
+        if (Objects.equals(this.configSourceName, configSourceName)) {
+            return this;
+        }
+        return new ConfigValue(name, value, rawValue, configSourceName, configSourceOrdinal, lineNumber,
+                dependencies);
     }
 
     public ConfigValue withConfigSourceOrdinal(final int configSourceOrdinal) {
-        return from().withConfigSourceOrdinal(configSourceOrdinal).build();
+        if (this.configSourceOrdinal == configSourceOrdinal) {
+            return this;
+        }
+        return new ConfigValue(name, value, rawValue, configSourceName, configSourceOrdinal, lineNumber,
+                dependencies);
     }
 
     public ConfigValue withLineNumber(final int lineNumber) {
-        return from().withLineNumber(lineNumber).build();
+        if (this.lineNumber == lineNumber) {
+            return this;
+        }
+        return new ConfigValue(name, value, rawValue, configSourceName, configSourceOrdinal, lineNumber,
+                dependencies);
+    }
+
+    /**
+     * Copies this value with the expanded value of its expressions, and the names resolved to expand it.
+     */
+    ConfigValue withExpansion(final String value, final Set<String> dependencies) {
+        return new ConfigValue(name, value, rawValue, configSourceName, configSourceOrdinal, lineNumber,
+                Collections.unmodifiableSet(dependencies));
     }
 
     @Override
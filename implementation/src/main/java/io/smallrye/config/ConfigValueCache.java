@@ -0,0 +1,449 @@
+package io.smallrye.config;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A cache of resolved {@link ConfigValue}, keyed by the property name, used by {@link SmallRyeConfig} to skip the
+ * interceptor chain on repeated lookups. The cache is only available if enabled with
+ * {@link SmallRyeConfigBuilder#withValueCache(boolean)}.
+ * <p>
+ *
+ * Every cached value is stamped with the cache version that was current when its resolution started. A call to
+ * {@link ConfigValueCache#invalidate()} bumps the epoch of the cache and discards every value stamped before it, and a
+ * call to {@link ConfigValueCache#invalidate(String)} discards a single value. A value resolved concurrently with an
+ * invalidation is never stored, so a reader cannot reintroduce a stale value in the cache.
+ * <p>
+ *
+ * Each cached value also keeps the results of the last few {@link Converter} applied to it by
+ * {@link SmallRyeConfig#getValue(String, Converter)}. A {@link Converter} is keyed by its instance, and the
+ * {@code Optional}, array and {@code List} converters created on each call, by their kind and the instance of the
+ * {@link Converter} of their items. Only immutable results are kept, and arrays and lists are copied for each caller.
+ * Converted values are discarded together with the value they were converted from.
+ * <p>
+ *
+ * A value expanded from expressions is also discarded when one of the names resolved by the expansion is invalidated,
+ * with the {@link ExpressionDependencyGraph} of the {@link ExpressionConfigSourceInterceptor}, so the expansion is
+ * reused until one of its transitive dependencies changes.
+ * <p>
+ *
+ * Every invalidation also updates the index of the names returned by {@link SmallRyeConfig#getPropertyNames()}.
+ * <p>
+ *
+ * A {@link org.eclipse.microprofile.config.spi.ConfigSource} that changes its values after the
+ * {@link SmallRyeConfig} is built must implement {@link ConfigValueCacheAware} to receive the cache and bump it.
+ */
+@Experimental("Cache of resolved configuration values")
+public final class ConfigValueCache {
+    private static final int MAX_CONVERSIONS = 4;
+
+    private final ConcurrentHashMap<String, CachedValue> values = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile long epoch;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile PropertyNamesIndex propertyNames;
+    private final ExpressionDependencyGraph dependencyGraph;
+
+    ConfigValueCache(final PropertyNamesIndex propertyNames, final ExpressionDependencyGraph dependencyGraph) {
+        this.propertyNames = propertyNames;
+        this.dependencyGraph = dependencyGraph;
+    }
+
+    /**
+     * Invalidates all the cached values and the property names. Values resolved after this call are cached again.
+     */
+    public void invalidate() {
+        epoch = version.incrementAndGet();
+        values.clear();
+        propertyNames.invalidate();
+    }
+
+    /**
+     * Invalidates all the cached values, and replaces the index of the property names, after the chain of the
+     * {@link SmallRyeConfig} is replaced by a reload.
+     */
+    void invalidate(final PropertyNamesIndex propertyNames) {
+        this.propertyNames = propertyNames;
+        epoch = version.incrementAndGet();
+        values.clear();
+    }
+
+    /**
+     * Invalidates the cached value of a single configuration name. The name is also added or removed from the
+     * property names, depending on whether it still resolves to a value.
+     * <p>
+     *
+     * A name with a profile prefix, like {@code %prod.my.prop}, invalidates the name without the prefix, and the
+     * values relocated to the name, or falling back to it, are invalidated with it. A name in the form of an
+     * environment variable, like {@code MY_PROP}, cannot be mapped to the names it was looked up with, so it
+     * invalidates all the cached values, like {@link ConfigValueCache#invalidate()}.
+     *
+     * @param name the configuration name
+     */
+    public void invalidate(final String name) {
+        final String lookupName = getLookupName(name);
+        if (lookupName == null) {
+            invalidate();
+            return;
+        }
+
+        discard(lookupName);
+        for (Map.Entry<String, CachedValue> entry : values.entrySet()) {
+            final ConfigValue value = entry.getValue().value;
+            // a relocated or fallback value keeps the name it was found with
+            if (value != null && lookupName.equals(value.getName()) && !lookupName.equals(entry.getKey())) {
+                discard(entry.getKey());
+            }
+        }
+        propertyNames.invalidate(name);
+    }
+
+    private void discard(final String name) {
+        values.put(name, new CachedValue(null, version.incrementAndGet()));
+        if (dependencyGraph != null) {
+            for (String dependent : dependencyGraph.getDependents(name)) {
+                values.put(dependent, new CachedValue(null, version.incrementAndGet()));
+            }
+        }
+    }
+
+    /**
+     * The name looked up in the {@link SmallRyeConfig} that a name of a source affects, without the profile prefix,
+     * or {@code null} if the name is in the form of an environment variable, with no dot and no lowercase letter.
+     */
+    static String getLookupName(final String name) {
+        String lookupName = name;
+        if (!lookupName.isEmpty() && lookupName.charAt(0) == '%') {
+            final int dot = lookupName.indexOf('.');
+            if (dot < 0) {
+                return null;
+            }
+            lookupName = lookupName.substring(dot + 1);
+        }
+
+        for (int i = 0; i < lookupName.length(); i++) {
+            final char c = lookupName.charAt(i);
+            if (c == '.' || Character.isLowerCase(c)) {
+                return lookupName;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the current epoch of the cache, bumped on every {@link ConfigValueCache#invalidate()}.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * @return the number of lookups served by the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that required a resolution in the interceptor chain.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of names currently held by the cache, including invalidated names.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    ConfigValue get(final String name) {
+        final CachedValue cachedValue = values.get(name);
+        if (cachedValue != null && cachedValue.value != null && cachedValue.version >= epoch) {
+            hits.increment();
+            return cachedValue.value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * A converted value counts as a hit. If there is no converted value, nothing is counted, and the lookup of the
+     * value to convert counts the hit or the miss.
+     */
+    Object getConverted(final String name, final Converter<?> converter) {
+        final CachedValue cachedValue = values.get(name);
+        if (cachedValue != null && cachedValue.value != null && cachedValue.version >= epoch) {
+            final Object key = Conversions.key(converter);
+            if (key == null) {
+                return null;
+            }
+            final Object converted = Conversions.copy(converter, cachedValue.getConverted(key));
+            if (converted != null) {
+                hits.increment();
+                return converted;
+            }
+        }
+        return null;
+    }
+
+    void putConverted(final String name, final ConfigValue value, final Converter<?> converter,
+            final Object converted) {
+        final CachedValue cachedValue = values.get(name);
+        // only keep the conversion if the cached value is the one that was converted
+        if (cachedValue != null && cachedValue.value == value) {
+            final Object key = Conversions.key(converter);
+            final Object cached = key != null ? Conversions.cached(converted) : null;
+            if (cached != null) {
+                cachedValue.putConverted(key, cached);
+            }
+        }
+    }
+
+    long getVersion() {
+        return version.get();
+    }
+
+    void put(final String name, final ConfigValue value, final long resolvedVersion) {
+        if (resolvedVersion < epoch) {
+            return;
+        }
+
+        // the expansion registered the dependencies in the graph, so an invalidation that misses the check below
+        // discards the value
+        for (String dependency : value.getDependencies()) {
+            final CachedValue cachedDependency = values.get(dependency);
+            if (cachedDependency != null && cachedDependency.version > resolvedVersion) {
+                return;
+            }
+        }
+
+        final CachedValue cachedValue = new CachedValue(value, resolvedVersion);
+        values.merge(name, cachedValue, (current, resolved) -> current.version > resolved.version ? current : resolved);
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigValueCache{hits=" + getHits() + ", misses=" + getMisses() + ", epoch=" + getEpoch() + "}";
+    }
+
+    private static final class CachedValue {
+        private static final Object[] NO_CONVERSIONS = new Object[0];
+
+        private final ConfigValue value;
+        private final long version;
+        /**
+         * Pairs of conversion key and converted value, most recent first. The array is never modified once
+         * published, so concurrent readers always see a consistent copy. A concurrent update may be lost, in which
+         * case the conversion is just executed again.
+         */
+        private volatile Object[] conversions = NO_CONVERSIONS;
+
+        CachedValue(final ConfigValue value, final long version) {
+            this.value = value;
+            this.version = version;
+        }
+
+        Object getConverted(final Object key) {
+            final Object[] conversions = this.conversions;
+            for (int i = 0; i < conversions.length; i += 2) {
+                if (conversions[i].equals(key)) {
+                    return conversions[i + 1];
+                }
+            }
+            return null;
+        }
+
+        void putConverted(final Object key, final Object converted) {
+            final Object[] conversions = this.conversions;
+            for (int i = 0; i < conversions.length; i += 2) {
+                if (conversions[i].equals(key)) {
+                    // already converted concurrently
+                    return;
+                }
+            }
+            final int length = Math.min(conversions.length + 2, MAX_CONVERSIONS * 2);
+            final Object[] newConversions = new Object[length];
+            newConversions[0] = key;
+            newConversions[1] = converted;
+            System.arraycopy(conversions, 0, newConversions, 2, length - 2);
+            this.conversions = newConversions;
+        }
+    }
+
+    /**
+     * The keys of the converted values, and the copies of the converted values returned to each caller.
+     */
+    private static final class Conversions {
+        private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+                String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+                Float.class, Double.class, BigInteger.class, BigDecimal.class, OptionalInt.class, OptionalLong.class,
+                OptionalDouble.class, UUID.class, URI.class, Pattern.class, Class.class, Inet4Address.class,
+                Inet6Address.class));
+
+        private Conversions() {
+        }
+
+        /**
+         * The key of the values converted by a {@link Converter}, or {@code null} if the values cannot be cached.
+         */
+        static Object key(final Converter<?> converter) {
+            if (converter instanceof Converters.OptionalConverter) {
+                return ConversionKey.of(Kind.OPTIONAL, ((Converters.OptionalConverter<?>) converter).getDelegate(),
+                        null);
+            } else if (converter instanceof Converters.CollectionConverter) {
+                return ConversionKey.of(Kind.LIST, ((Converters.CollectionConverter<?, ?>) converter).getDelegate(),
+                        null);
+            } else if (converter instanceof Converters.ArrayConverter) {
+                final Converters.ArrayConverter<?, ?> arrayConverter = (Converters.ArrayConverter<?, ?>) converter;
+                return ConversionKey.of(Kind.ARRAY, arrayConverter.getDelegate(), arrayConverter.getArrayType());
+            }
+            return converter;
+        }
+
+        /**
+         * The value to keep in the cache for a converted value, or {@code null} if it is not immutable.
+         */
+        static Object cached(final Object converted) {
+            if (converted instanceof Optional) {
+                final Optional<?> optional = (Optional<?>) converted;
+                return !optional.isPresent() || isImmutable(optional.get()) ? converted : null;
+            } else if (converted instanceof Collection) {
+                // a Set or a sorted collection depends on the factory of the caller
+                if (!(converted instanceof List)) {
+                    return null;
+                }
+                for (Object item : (Collection<?>) converted) {
+                    if (!isImmutable(item)) {
+                        return null;
+                    }
+                }
+                return Collections.unmodifiableList(new ArrayList<>((Collection<?>) converted));
+            } else if (converted != null && converted.getClass().isArray()) {
+                if (!converted.getClass().getComponentType().isPrimitive()) {
+                    for (Object item : (Object[]) converted) {
+                        if (!isImmutable(item)) {
+                            return null;
+                        }
+                    }
+                }
+                return copyArray(converted);
+            }
+            return isImmutable(converted) ? converted : null;
+        }
+
+        /**
+         * The copy of a cached value for a caller, so a caller that modifies the value does not modify the cache.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        static Object copy(final Converter<?> converter, final Object cached) {
+            if (cached == null) {
+                return null;
+            } else if (converter instanceof Converters.CollectionConverter) {
+                final List<?> items = (List<?>) cached;
+                final Collection collection = ((Converters.CollectionConverter<?, ?>) converter).getCollectionFactory()
+                        .apply(items.size());
+                if (!(collection instanceof List)) {
+                    return null;
+                }
+                collection.addAll(items);
+                return collection;
+            } else if (converter instanceof Converters.ArrayConverter) {
+                return copyArray(cached);
+            }
+            return cached;
+        }
+
+        static boolean isImmutable(final Object value) {
+            return value != null && (IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum
+                    || value.getClass().getName().startsWith("java.time."));
+        }
+
+        private static Object copyArray(final Object array) {
+            final int length = Array.getLength(array);
+            final Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+            System.arraycopy(array, 0, copy, 0, length);
+            return copy;
+        }
+    }
+
+    private enum Kind {
+        OPTIONAL,
+        LIST,
+        ARRAY
+    }
+
+    /**
+     * The key of the values converted by the {@code Optional}, array and {@code List} converters, which are created
+     * on each call, by their kind and the {@link Converter} of their items.
+     */
+    private static final class ConversionKey {
+        private final Kind kind;
+        private final Converter<?> delegate;
+        private final Class<?> arrayType;
+
+        private ConversionKey(final Kind kind, final Converter<?> delegate, final Class<?> arrayType) {
+            this.kind = kind;
+            this.delegate = delegate;
+            this.arrayType = arrayType;
+        }
+
+        /**
+         * A key of a converter of items that also creates its values on each call is never equal to another key, so
+         * only a converter of items that is reused by the callers is cached.
+         */
+        static ConversionKey of(final Kind kind, final Converter<?> delegate, final Class<?> arrayType) {
+            if (delegate instanceof Converters.OptionalConverter || delegate instanceof Converters.CollectionConverter
+                    || delegate instanceof Converters.ArrayConverter) {
+                return null;
+            }
+            return new ConversionKey(kind, delegate, arrayType);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ConversionKey)) {
+                return false;
+            }
+            final ConversionKey that = (ConversionKey) o;
+            return kind == that.kind && delegate == that.delegate && arrayType == that.arrayType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * kind.hashCode() + System.identityHashCode(delegate);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.smallrye.config;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Implemented by a {@link org.eclipse.microprofile.config.spi.ConfigSource} whose values may change after the
+ * {@link SmallRyeConfig} is built. When the {@link ConfigValueCache} is enabled, each source implementing this
+ * interface receives the cache of the {@link SmallRyeConfig} it belongs to, and is responsible to invalidate the
+ * names (or the entire cache) when its values change.
+ */
+@Experimental("Cache of resolved configuration values")
+public interface ConfigValueCacheAware {
+    /**
+     * Registers the {@link ConfigValueCache} of a {@link SmallRyeConfig} using this source. A source shared between
+     * multiple {@link SmallRyeConfig} instances may receive multiple caches.
+     *
+     * @param cache the {@link ConfigValueCache} to invalidate when the source values change
+     */
+    void registerConfigValueCache(ConfigValueCache cache);
+}
@@ -1,6 +1,8 @@
 package io.smallrye.config;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
@@ -29,6 +31,43 @@ public interface ConfigValueConfigSource extends ConfigSource {
      */
     ConfigValue getConfigValue(String propertyName);
 
+    /**
+     * Return the {@link ConfigValue} for a precompiled {@link ConfigKey} in this configuration source. A source that
+     * looks up other forms of the property name should override this method to use the forms computed by the key.
+     * <p>
+     *
+     * The default implementation calls {@link ConfigValueConfigSource#getConfigValue(String)} with the name of the key.
+     *
+     * @param key the property key
+     * @return the ConfigValue, or {@code null} if the property is not present
+     */
+    default ConfigValue getConfigValue(ConfigKey key) {
+        return getConfigValue(key.getName());
+    }
+
+    /**
+     * Return the {@link ConfigValue} for multiple properties in this configuration source. A source that can retrieve
+     * multiple properties more efficiently than one by one (for instance, a remote source that requires a round trip
+     * for each lookup) should override this method.
+     * <p>
+     *
+     * The default implementation calls {@link ConfigValueConfigSource#getConfigValue(String)} for each property.
+     *
+     * @param propertyNames the property names
+     * @return a Map of the property names present in this configuration source, and the corresponding
+     *         {@link ConfigValue}. Properties that are not present are not included in the Map.
+     */
+    default Map<String, ConfigValue> getConfigValues(Collection<String> propertyNames) {
+        final Map<String, ConfigValue> values = new HashMap<>();
+        for (String propertyName : propertyNames) {
+            final ConfigValue configValue = getConfigValue(propertyName);
+            if (configValue != null) {
+                values.put(propertyName, configValue);
+            }
+        }
+        return values;
+    }
+
     /**
      * Return the properties in this configuration source as a Map of String and {@link ConfigValue}.
      *
@@ -36,6 +75,20 @@ public interface ConfigValueConfigSource extends ConfigSource {
      */
     Map<String, ConfigValue> getConfigValueProperties();
 
+    /**
+     * Return a {@link PropertyNamesFilter} to skip lookups of names not available in this configuration source. Only a
+     * source that returns every name it contains in {@link ConfigSource#getPropertyNames()} and does not change its
+     * names after being created can provide a filter.
+     * <p>
+     *
+     * The filter is requested once, when the source is added to the interceptor chain.
+     *
+     * @return a {@link PropertyNamesFilter}, or {@code null} if this source cannot summarize its names
+     */
+    default PropertyNamesFilter getPropertyNamesFilter() {
+        return null;
+    }
+
     /**
      * Return the properties in this configuration source as a map.
      * <p>
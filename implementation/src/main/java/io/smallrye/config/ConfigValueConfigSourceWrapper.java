@@ -10,22 +10,41 @@ final class ConfigValueConfigSourceWrapper implements ConfigValueConfigSource, S
     private static final long serialVersionUID = -1109094614437147326L;
 
     private final ConfigSource configSource;
+    // the source metadata is shared by every ConfigValue of the source, and resolved once
+    private final String configSourceName;
+    private final int configSourceOrdinal;
 
     private ConfigValueConfigSourceWrapper(final ConfigSource configSource) {
         this.configSource = configSource;
+        this.configSourceName = configSource.getName();
+        this.configSourceOrdinal = configSource.getOrdinal();
     }
 
     @Override
     public ConfigValue getConfigValue(final String propertyName) {
         String value = configSource.getValue(propertyName);
         if (value != null) {
-            return ConfigValue.builder()
-                    .withName(propertyName)
-                    .withValue(value)
-                    .withRawValue(value)
-                    .withConfigSourceName(getName())
-                    .withConfigSourceOrdinal(getOrdinal())
-                    .build();
+            return new ConfigValue(propertyName, value, value, configSourceName, configSourceOrdinal, -1);
+        }
+
+        return null;
+    }
+
+    @Override
+    public ConfigValue getConfigValue(final ConfigKey key) {
+        // only the exact classes, because subclasses may override getValue
+        final String value;
+        if (configSource.getClass() == EnvConfigSource.class) {
+            value = ((EnvConfigSource) configSource).getValue(key);
+        } else if (configSource.getClass() == DefaultValuesConfigSource.class
+                || configSource.getClass() == KeyMapBackedConfigSource.class) {
+            value = ((KeyMapBackedConfigSource) configSource).getValue(key);
+        } else {
+            value = configSource.getValue(key.getName());
+        }
+
+        if (value != null) {
+            return new ConfigValue(key.getName(), value, value, configSourceName, configSourceOrdinal, -1);
         }
 
         return null;
@@ -33,9 +52,19 @@ final class ConfigValueConfigSourceWrapper implements ConfigValueConfigSource, S
 
     @Override
     public Map<String, ConfigValue> getConfigValueProperties() {
-        return new ConfigValueMapStringView(configSource.getProperties(),
-                configSource.getName(),
-                configSource.getOrdinal());
+        return new ConfigValueMapStringView(configSource.getProperties(), configSourceName, configSourceOrdinal);
+    }
+
+    @Override
+    public PropertyNamesFilter getPropertyNamesFilter() {
+        // only the exact classes, because subclasses may override getValue or getPropertyNames
+        if (configSource.getClass() == EnvConfigSource.class) {
+            return ((EnvConfigSource) configSource).getPropertyNamesFilter();
+        } else if (configSource.getClass() == PropertiesConfigSource.class
+                || configSource.getClass() == RefreshablePropertiesConfigSource.class) {
+            return ((PropertiesConfigSource) configSource).getPropertyNamesFilter();
+        }
+        return null;
     }
 
     @Override
@@ -131,12 +131,6 @@ final class ConfigValueMapStringView extends AbstractMap<String, ConfigValue> {
     }
 
     private ConfigValue toConfigValue(final String name, final String value) {
-        return ConfigValue.builder()
-                .withName(name)
-                .withValue(value)
-                .withRawValue(value)
-                .withConfigSourceName(configSourceName)
-                .withConfigSourceOrdinal(configSourceOrdinal)
-                .build();
+        return new ConfigValue(name, value, value, configSourceName, configSourceOrdinal, -1);
     }
 }
@@ -8,11 +8,15 @@ import java.util.Map;
 
 import io.smallrye.config.common.utils.ConfigSourceUtil;
 
-public class ConfigValuePropertiesConfigSource extends MapBackedConfigValueConfigSource {
+public class ConfigValuePropertiesConfigSource extends MapBackedConfigValueConfigSource
+        implements ConfigImage.RecordableSource {
     private static final long serialVersionUID = 9070158352250209380L;
 
     private static final String NAME_PREFIX = "ConfigValuePropertiesConfigSource[source=";
 
+    private final boolean ownsProperties;
+    private final URL location;
+
     public ConfigValuePropertiesConfigSource(URL url) throws IOException {
         this(url, DEFAULT_ORDINAL);
     }
@@ -23,12 +27,29 @@ public class ConfigValuePropertiesConfigSource extends MapBackedConfigValueConfi
 
     private ConfigValuePropertiesConfigSource(URL url, String name, int defaultOrdinal) throws IOException {
         super(name, urlToConfigValueMap(url, name, defaultOrdinal));
+        this.ownsProperties = true;
+        this.location = url;
     }
 
     public ConfigValuePropertiesConfigSource(Map<String, String> properties, String name, int defaultOrdinal) {
         super(NAME_PREFIX + name + "]",
                 new ConfigValueMapStringView(properties, name, ConfigSourceUtil.getOrdinalFromMap(properties, defaultOrdinal)),
                 defaultOrdinal);
+        this.ownsProperties = false;
+        this.location = null;
+    }
+
+    /**
+     * Like {@link PropertiesConfigSource#getLocation()}, only the file loaded by this class is recorded.
+     */
+    @Override
+    public URL getLocation() {
+        return getClass() == ConfigValuePropertiesConfigSource.class ? location : null;
+    }
+
+    @Override
+    public PropertyNamesFilter getPropertyNamesFilter() {
+        return ownsProperties ? PropertyNamesFilter.of(getPropertyNames()) : null;
     }
 
     private static Map<String, ConfigValue> urlToConfigValueMap(URL locationOfProperties, String name, int ordinal)
@@ -41,6 +41,10 @@ public class ConfigurableConfigSource implements ConfigSource {
         return factory.getPriority().orElse(DEFAULT_ORDINAL);
     }
 
+    boolean isIndependent() {
+        return factory.isIndependent();
+    }
+
     List<ConfigSource> getConfigSources(final ConfigSourceContext context) {
         return unwrap(context, new ArrayList<>());
     }
@@ -56,27 +56,9 @@ public final class Converters {
 
     static final Converter<String> STRING_CONVERTER = BuiltInConverter.of(0, newEmptyValueConverter(value -> value));
 
-    static final Converter<Boolean> BOOLEAN_CONVERTER = BuiltInConverter.of(1, newTrimmingConverter(newEmptyValueConverter(
-            value -> Boolean.valueOf(
-                    "TRUE".equalsIgnoreCase(value)
-                            || "1".equalsIgnoreCase(value)
-                            || "YES".equalsIgnoreCase(value)
-                            || "Y".equalsIgnoreCase(value)
-                            || "ON".equalsIgnoreCase(value)
-                            || "JA".equalsIgnoreCase(value)
-                            || "J".equalsIgnoreCase(value)
-                            || "SI".equalsIgnoreCase(value)
-                            || "SIM".equalsIgnoreCase(value)
-                            || "OUI".equalsIgnoreCase(value)))));
-
-    static final Converter<Double> DOUBLE_CONVERTER = BuiltInConverter.of(2,
-            newTrimmingConverter(newEmptyValueConverter(value -> {
-                try {
-                    return Double.valueOf(value);
-                } catch (NumberFormatException nfe) {
-                    throw ConfigMessages.msg.doubleExpected(value);
-                }
-            })));
+    static final Converter<Boolean> BOOLEAN_CONVERTER = new BuiltInBooleanConverter(1);
+
+    static final Converter<Double> DOUBLE_CONVERTER = new BuiltInDoubleConverter(2);
 
     static final Converter<Float> FLOAT_CONVERTER = BuiltInConverter.of(3,
             newTrimmingConverter(newEmptyValueConverter(value -> {
@@ -87,23 +69,9 @@ public final class Converters {
                 }
             })));
 
-    static final Converter<Long> LONG_CONVERTER = BuiltInConverter.of(4,
-            newTrimmingConverter(newEmptyValueConverter(value -> {
-                try {
-                    return Long.valueOf(value);
-                } catch (NumberFormatException nfe) {
-                    throw ConfigMessages.msg.longExpected(value);
-                }
-            })));
+    static final Converter<Long> LONG_CONVERTER = new BuiltInLongConverter(4);
 
-    static final Converter<Integer> INTEGER_CONVERTER = BuiltInConverter.of(5,
-            newTrimmingConverter(newEmptyValueConverter(value -> {
-                try {
-                    return Integer.valueOf(value);
-                } catch (NumberFormatException nfe) {
-                    throw ConfigMessages.msg.integerExpected(value);
-                }
-            })));
+    static final Converter<Integer> INTEGER_CONVERTER = new BuiltInIntConverter(5);
 
     static final Converter<Class<?>> CLASS_CONVERTER = BuiltInConverter.of(6,
             newTrimmingConverter(newEmptyValueConverter(value -> {
@@ -691,6 +659,10 @@ public final class Converters {
             return new CollectionConverter<>(newDelegate, collectionFactory);
         }
 
+        IntFunction<C> getCollectionFactory() {
+            return collectionFactory;
+        }
+
         public C convert(final String str) {
             if (str.isEmpty()) {
                 // empty collection
@@ -724,6 +696,10 @@ public final class Converters {
             return new ArrayConverter<>(newDelegate, arrayType);
         }
 
+        Class<A> getArrayType() {
+            return arrayType;
+        }
+
         public A convert(final String str) {
             if (str.isEmpty()) {
                 // empty array
@@ -855,7 +831,7 @@ public final class Converters {
         }
     }
 
-    static final class BuiltInConverter<T> implements Converter<T>, Serializable {
+    static class BuiltInConverter<T> implements Converter<T>, Serializable {
         private final int id;
         private final Converter<T> function;
 
@@ -877,6 +853,188 @@ public final class Converters {
         }
     }
 
+    /**
+     * The built-in primitive converters parse the value in place, between the first and the last non whitespace
+     * characters, so the value is never trimmed to a new String. An empty value converts to {@code null} with
+     * {@link Converter#convert(String)}, and fails the conversion to a primitive.
+     */
+    abstract static class BuiltInPrimitiveConverter<T> extends BuiltInConverter<T> {
+        BuiltInPrimitiveConverter(final int id) {
+            super(id, null);
+        }
+
+        @Override
+        public T convert(final String value) {
+            if (isBlank(value)) {
+                return null;
+            }
+            return convertBoxed(value);
+        }
+
+        abstract T convertBoxed(String value);
+    }
+
+    static final class BuiltInIntConverter extends BuiltInPrimitiveConverter<Integer> implements IntConverter {
+        BuiltInIntConverter(final int id) {
+            super(id);
+        }
+
+        @Override
+        Integer convertBoxed(final String value) {
+            return convertInt(value);
+        }
+
+        @Override
+        public int convertInt(final String value) {
+            try {
+                return (int) parseLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            } catch (NumberFormatException nfe) {
+                throw ConfigMessages.msg.integerExpected(value.trim());
+            }
+        }
+    }
+
+    static final class BuiltInLongConverter extends BuiltInPrimitiveConverter<Long> implements LongConverter {
+        BuiltInLongConverter(final int id) {
+            super(id);
+        }
+
+        @Override
+        Long convertBoxed(final String value) {
+            return convertLong(value);
+        }
+
+        @Override
+        public long convertLong(final String value) {
+            try {
+                return parseLong(value, Long.MIN_VALUE, Long.MAX_VALUE);
+            } catch (NumberFormatException nfe) {
+                throw ConfigMessages.msg.longExpected(value.trim());
+            }
+        }
+    }
+
+    static final class BuiltInDoubleConverter extends BuiltInPrimitiveConverter<Double> implements DoubleConverter {
+        BuiltInDoubleConverter(final int id) {
+            super(id);
+        }
+
+        @Override
+        Double convertBoxed(final String value) {
+            return convertDouble(value);
+        }
+
+        @Override
+        public double convertDouble(final String value) {
+            try {
+                // parseDouble ignores the leading and trailing whitespace
+                return Double.parseDouble(value);
+            } catch (NumberFormatException nfe) {
+                throw ConfigMessages.msg.doubleExpected(value.trim());
+            }
+        }
+    }
+
+    static final class BuiltInBooleanConverter extends BuiltInPrimitiveConverter<Boolean> implements BooleanConverter {
+        private static final String[] TRUE_VALUES = { "TRUE", "1", "YES", "Y", "ON", "JA", "J", "SI", "SIM", "OUI" };
+
+        BuiltInBooleanConverter(final int id) {
+            super(id);
+        }
+
+        @Override
+        Boolean convertBoxed(final String value) {
+            return convertBoolean(value);
+        }
+
+        @Override
+        public boolean convertBoolean(final String value) {
+            final int start = trimStart(value);
+            final int length = trimEnd(value, start) - start;
+            for (String trueValue : TRUE_VALUES) {
+                if (trueValue.length() == length && value.regionMatches(true, start, trueValue, 0, length)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static boolean isBlank(final String value) {
+        if (value == null) {
+            throw ConfigMessages.msg.converterNullValue();
+        }
+        return trimStart(value) == value.length();
+    }
+
+    /**
+     * The index of the first character of the value that is not a whitespace, with the same definition of whitespace
+     * as {@link String#trim()}.
+     */
+    private static int trimStart(final String value) {
+        final int length = value.length();
+        int start = 0;
+        while (start < length && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * The index after the last character of the value that is not a whitespace, with the same definition of
+     * whitespace as {@link String#trim()}.
+     */
+    private static int trimEnd(final String value, final int start) {
+        int end = value.length();
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Parses a decimal value between the first and the last non whitespace characters, with the same rules as
+     * {@link Long#parseLong(String)}. The value is accumulated negatively, to represent the minimum value without
+     * overflow.
+     */
+    private static long parseLong(final String value, final long minValue, final long maxValue) {
+        int i = trimStart(value);
+        final int end = trimEnd(value, i);
+        if (i == end) {
+            throw new NumberFormatException();
+        }
+
+        boolean negative = false;
+        long limit = -maxValue;
+        final char first = value.charAt(i);
+        if (first < '0') {
+            if (first == '-') {
+                negative = true;
+                limit = minValue;
+            } else if (first != '+') {
+                throw new NumberFormatException();
+            }
+            if (++i == end) {
+                throw new NumberFormatException();
+            }
+        }
+
+        final long multiplyLimit = limit / 10;
+        long result = 0;
+        while (i < end) {
+            final int digit = Character.digit(value.charAt(i++), 10);
+            if (digit < 0 || result < multiplyLimit) {
+                throw new NumberFormatException();
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw new NumberFormatException();
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
     static final class Ser implements Serializable {
         private static final long serialVersionUID = 5646753664957303950L;
 
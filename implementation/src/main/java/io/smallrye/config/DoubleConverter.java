@@ -0,0 +1,28 @@
+package io.smallrye.config;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A {@link Converter} of Double values, that also converts to a primitive {@code double}, without boxing the result.
+ * The built-in {@link Double} converter implements this interface, and it is used by
+ * {@link SmallRyeConfig#getDouble(String)}.
+ */
+@Experimental("Primitive configuration getters")
+@FunctionalInterface
+public interface DoubleConverter extends Converter<Double> {
+    /**
+     * Converts a configuration value to a primitive {@code double}.
+     *
+     * @param value the String representation of the property value
+     * @return the converted value
+     * @throws IllegalArgumentException if the value cannot be converted to a {@code double}
+     */
+    double convertDouble(String value);
+
+    @Override
+    default Double convert(final String value) {
+        return convertDouble(value);
+    }
+}
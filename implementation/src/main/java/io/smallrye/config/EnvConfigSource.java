@@ -21,6 +21,7 @@ import static java.util.Collections.unmodifiableMap;
 
 import java.io.Serializable;
 import java.security.PrivilegedAction;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -37,17 +38,23 @@ public class EnvConfigSource extends MapBackedConfigSource {
     private static final Object NULL_VALUE = new Object();
 
     private final Map<String, Object> cache = new ConcurrentHashMap<>();
+    private final boolean ownsProperties;
 
     protected EnvConfigSource() {
         this(DEFAULT_ORDINAL);
     }
 
     protected EnvConfigSource(final int ordinal) {
-        this(getEnvProperties(), ordinal);
+        this(getEnvProperties(), ordinal, true);
     }
 
     public EnvConfigSource(final Map<String, String> propertyMap, final int ordinal) {
+        this(propertyMap, ordinal, false);
+    }
+
+    private EnvConfigSource(final Map<String, String> propertyMap, final int ordinal, final boolean ownsProperties) {
         super("EnvConfigSource", propertyMap, getEnvOrdinal(propertyMap, ordinal));
+        this.ownsProperties = ownsProperties;
     }
 
     @Override
@@ -55,6 +62,22 @@ public class EnvConfigSource extends MapBackedConfigSource {
         return getValue(propertyName, getProperties(), cache);
     }
 
+    /**
+     * Looks up the same variants of the name as {@link EnvConfigSource#getValue(String)}, with the variants computed
+     * by the key.
+     */
+    String getValue(final ConfigKey key) {
+        final Map<String, String> properties = getProperties();
+        String value = properties.get(key.getName());
+        if (value == null) {
+            value = properties.get(key.getEnvName());
+            if (value == null) {
+                value = properties.get(key.getUpperCaseEnvName());
+            }
+        }
+        return value;
+    }
+
     private static String getValue(final String name, final Map<String, String> properties, final Map<String, Object> cache) {
         if (name == null) {
             return null;
@@ -94,7 +117,21 @@ public class EnvConfigSource extends MapBackedConfigSource {
         return null;
     }
 
-    private static String replaceNonAlphanumericByUnderscores(String name) {
+    /**
+     * A lookup matches an environment variable if the name is equal to the variable name, or to the variable name
+     * after replacing non alphanumeric characters by underscores, optionally in uppercase. The filter hashes both the
+     * variable names and the looked up names in that normalized form, so a name is never filtered out if one of its
+     * variants exists.
+     * <p>
+     *
+     * A filter is only possible with the environment variables of the process, which never change. A map provided
+     * by the caller may still be changed after the source is created.
+     */
+    PropertyNamesFilter getPropertyNamesFilter() {
+        return ownsProperties ? new EnvPropertyNamesFilter(getPropertyNames()) : null;
+    }
+
+    static String replaceNonAlphanumericByUnderscores(String name) {
         int length = name.length();
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < length; i++) {
@@ -126,6 +163,40 @@ public class EnvConfigSource extends MapBackedConfigSource {
         return ordinal;
     }
 
+    static final class EnvPropertyNamesFilter extends BloomPropertyNamesFilter {
+        private static final long serialVersionUID = 4203346137616593349L;
+
+        EnvPropertyNamesFilter(final Collection<String> names) {
+            super(names);
+        }
+
+        @Override
+        int hash(final String name) {
+            int hash = 0;
+            for (int i = 0; i < name.length(); i++) {
+                hash = 31 * hash + normalize(name.charAt(i));
+            }
+            return hash;
+        }
+
+        /**
+         * Uppercase for alphanumeric characters and underscore for everything else. The letter {@code i} is also
+         * mapped to an underscore, because {@link String#toUpperCase()} may turn it into a non ASCII character
+         * depending on the default locale.
+         */
+        private static char normalize(final char c) {
+            if ('a' <= c && c <= 'z') {
+                return c == 'i' ? '_' : (char) (c - ('a' - 'A'));
+            } else if ('A' <= c && c <= 'Z') {
+                return c == 'I' ? '_' : c;
+            } else if ('0' <= c && c <= '9') {
+                return c;
+            } else {
+                return '_';
+            }
+        }
+    }
+
     Object writeReplace() {
         return new Ser();
     }
@@ -4,21 +4,37 @@ import static io.smallrye.common.expression.Expression.Flag.LENIENT_SYNTAX;
 import static io.smallrye.common.expression.Expression.Flag.NO_SMART_BRACES;
 import static io.smallrye.common.expression.Expression.Flag.NO_TRIM;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 import javax.annotation.Priority;
 
 import org.eclipse.microprofile.config.Config;
 
 import io.smallrye.common.expression.Expression;
+import io.smallrye.common.expression.ResolveContext;
 
 @Priority(Priorities.LIBRARY + 800)
 public class ExpressionConfigSourceInterceptor implements ConfigSourceInterceptor {
     private static final long serialVersionUID = -539336551011916218L;
 
     private static final int MAX_DEPTH = 32;
+    private static final int MAX_EXPRESSIONS = 1024;
 
     private final boolean enabled;
+    private transient Map<String, Expression> expressions = new ConcurrentHashMap<>();
+    private transient volatile ExpressionDependencyGraph dependencyGraph;
 
     public ExpressionConfigSourceInterceptor() {
         this.enabled = true;
@@ -33,15 +49,22 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
 
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
-        return getValue(context, name, 1);
-    }
+        final ConfigValue configValue = context.proceed(name);
 
-    private ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name, final int depth) {
-        if (depth == MAX_DEPTH) {
-            throw ConfigMessages.msg.expressionExpansionTooDepth(name);
+        if (!Expressions.isEnabled() || !enabled) {
+            return configValue;
         }
 
-        final ConfigValue configValue = context.proceed(name);
+        if (configValue == null) {
+            return null;
+        }
+
+        return expand(context, name, configValue);
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final ConfigKey key) {
+        final ConfigValue configValue = context.proceed(key);
 
         if (!Expressions.isEnabled() || !enabled) {
             return configValue;
@@ -51,20 +74,153 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
             return null;
         }
 
-        final Expression expression = Expression.compile(escapeDollarIfExists(configValue.getValue()), LENIENT_SYNTAX, NO_TRIM,
-                NO_SMART_BRACES);
-        final String expanded = expression.evaluate((resolveContext, stringBuilder) -> {
-            final ConfigValue resolve = getValue(context, resolveContext.getKey(), depth + 1);
+        return expand(context, key.getName(), configValue);
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context,
+            final Collection<String> names) {
+        final Map<String, ConfigValue> values = context.proceed(names);
+
+        if (!Expressions.isEnabled() || !enabled) {
+            return values;
+        }
+
+        // the values are retrieved together, but each expression is expanded with single lookups
+        final Map<String, ConfigValue> expanded = new HashMap<>();
+        for (Map.Entry<String, ConfigValue> value : values.entrySet()) {
+            expanded.put(value.getKey(), expand(context, value.getKey(), value.getValue()));
+        }
+        return expanded;
+    }
+
+    private ConfigValue expand(final ConfigSourceInterceptorContext context, final String name,
+            final ConfigValue configValue) {
+        if (!hasExpression(configValue.getValue())) {
+            return configValue;
+        }
+
+        final Expansion expansion = new Expansion(context);
+        final String expanded = expansion.expand(name, configValue);
+        return configValue.withExpansion(expanded, expansion.dependencies);
+    }
+
+    /**
+     * Compiles the {@link Expression} of a value, or retrieves it from the cache of compiled expressions. The cache is
+     * bounded, and cleared when full.
+     */
+    private Expression compile(final String value) {
+        Expression expression = expressions.get(value);
+        if (expression == null) {
+            expression = Expression.compile(escapeDollarIfExists(value), LENIENT_SYNTAX, NO_TRIM, NO_SMART_BRACES);
+            if (expressions.size() >= MAX_EXPRESSIONS) {
+                expressions.clear();
+            }
+            expressions.put(value, expression);
+        }
+        return expression;
+    }
+
+    /**
+     * A value without a dollar sign has no expression or escaped dollar, so it expands to itself.
+     */
+    private static boolean hasExpression(final String value) {
+        return value != null && value.indexOf('$') != -1;
+    }
+
+    /**
+     * The graph of the dependencies between the names, built as the expressions are expanded.
+     *
+     * @return the graph of the dependencies, or {@code null} if the dependencies are not recorded
+     */
+    ExpressionDependencyGraph getDependencyGraph() {
+        return dependencyGraph;
+    }
+
+    /**
+     * Starts recording the dependencies of the expansions in the {@link ExpressionDependencyGraph}. The graph is only
+     * used by a {@link ConfigValueCache} to discard the expanded values, so the dependencies are not recorded until a
+     * cache requires them.
+     *
+     * @return the graph of the dependencies
+     */
+    synchronized ExpressionDependencyGraph recordDependencies() {
+        if (dependencyGraph == null) {
+            dependencyGraph = new ExpressionDependencyGraph();
+        }
+        return dependencyGraph;
+    }
+
+    /**
+     * The expansion of a value, including the nested expressions of the resolved values. A single instance resolves
+     * every expression of the expansion, and records the names resolved, in the {@link ExpressionDependencyGraph} and
+     * in the expanded value.
+     * <p>
+     *
+     * The names being expanded are kept in a path, so a name that references itself, directly or through other names,
+     * is reported as a cycle, before any depth limit. The depth limit only remains for expansions that keep resolving
+     * new names, like composed names.
+     */
+    private final class Expansion implements BiConsumer<ResolveContext<RuntimeException>, StringBuilder> {
+        private final ConfigSourceInterceptorContext context;
+        private final ExpressionDependencyGraph dependencyGraph;
+        private final Set<String> dependencies = new LinkedHashSet<>();
+        private final List<String> path = new ArrayList<>();
+        private Set<String> directDependencies;
+
+        Expansion(final ConfigSourceInterceptorContext context) {
+            this.context = context;
+            this.dependencyGraph = getDependencyGraph();
+        }
+
+        String expand(final String name, final ConfigValue configValue) {
+            final String value = configValue.getValue();
+            if (!hasExpression(value)) {
+                if (dependencyGraph != null && !path.isEmpty()) {
+                    dependencyGraph.setDependencies(name, Collections.emptySet());
+                }
+                return value;
+            }
+
+            final Set<String> expandingDependencies = directDependencies;
+            directDependencies = new LinkedHashSet<>();
+            path.add(name);
+            try {
+                final String expanded = compile(value).evaluate(this);
+                if (dependencyGraph != null) {
+                    dependencyGraph.setDependencies(name, directDependencies);
+                }
+                return expanded;
+            } finally {
+                path.remove(path.size() - 1);
+                directDependencies = expandingDependencies;
+            }
+        }
+
+        @Override
+        public void accept(final ResolveContext<RuntimeException> resolveContext, final StringBuilder stringBuilder) {
+            final String key = resolveContext.getKey();
+            final String name = path.get(path.size() - 1);
+            if (path.contains(key)) {
+                final List<String> cycle = new ArrayList<>(path.subList(path.indexOf(key), path.size()));
+                cycle.add(key);
+                throw ConfigMessages.msg.expressionExpansionCycle(path.get(0), String.join(" -> ", cycle));
+            }
+            if (path.size() + 1 == MAX_DEPTH) {
+                throw ConfigMessages.msg.expressionExpansionTooDepth(key);
+            }
+
+            dependencies.add(key);
+            directDependencies.add(key);
+            final ConfigValue resolve = context.proceed(key);
             if (resolve != null) {
-                stringBuilder.append(resolve.getValue());
+                stringBuilder.append(expand(key, resolve));
             } else if (resolveContext.hasDefault()) {
                 resolveContext.expandDefault();
             } else {
-                throw ConfigMessages.msg.expandingElementNotFound(resolveContext.getKey(), configValue.getName());
+                throw ConfigMessages.msg.expandingElementNotFound(key, name);
             }
-        });
-
-        return configValue.withValue(expanded);
+        }
     }
 
     /**
@@ -74,7 +230,7 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
      * This will replace the expected escape in MicroProfile Config by the escape used in {@link Expression}, a double
      * dollar.
      */
-    private String escapeDollarIfExists(final String value) {
+    private static String escapeDollarIfExists(final String value) {
         int index = value.indexOf("\\$");
         if (index != -1) {
             int start = 0;
@@ -89,4 +245,9 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
         }
         return value;
     }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.expressions = new ConcurrentHashMap<>();
+    }
 }
@@ -0,0 +1,83 @@
+package io.smallrye.config;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The graph of the dependencies between the configuration names, built by the {@link ExpressionConfigSourceInterceptor}
+ * as the expressions are expanded. A name depends on the names referenced directly by the expressions of its value.
+ * <p>
+ *
+ * The dependencies of a name are replaced every time its value is expanded. The graph may keep dependencies that were
+ * removed from a value that is not expanded again, so the dependents of a name may include more names than required,
+ * but never less. The graph may contain cycles, which are reported by the expansion, and are skipped by the traversal
+ * of the dependents.
+ */
+final class ExpressionDependencyGraph {
+    private final ConcurrentHashMap<String, Set<String>> dependencies = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> dependents = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces the direct dependencies of a name.
+     *
+     * @param name the configuration name
+     * @param names the names referenced by the expressions of the value of the name
+     */
+    void setDependencies(final String name, final Set<String> names) {
+        final Set<String> previous = names.isEmpty() ? dependencies.remove(name) : dependencies.put(name, names);
+        if (previous != null) {
+            for (String dependency : previous) {
+                if (!names.contains(dependency)) {
+                    final Set<String> dependencyDependents = dependents.get(dependency);
+                    if (dependencyDependents != null) {
+                        dependencyDependents.remove(name);
+                    }
+                }
+            }
+        }
+        for (String dependency : names) {
+            dependents.computeIfAbsent(dependency, k -> ConcurrentHashMap.newKeySet()).add(name);
+        }
+    }
+
+    /**
+     * @param name the configuration name
+     * @return the names referenced directly by the expressions of the value of the name
+     */
+    Set<String> getDependencies(final String name) {
+        final Set<String> names = dependencies.get(name);
+        return names != null ? Collections.unmodifiableSet(names) : Collections.emptySet();
+    }
+
+    /**
+     * Retrieves the transitive dependents of a name, which are the names with a value that must be expanded again if
+     * the value of the name changes.
+     *
+     * @param name the configuration name
+     * @return the names that depend on the name, directly or through other names, in breadth first order
+     */
+    Set<String> getDependents(final String name) {
+        final Set<String> direct = dependents.get(name);
+        if (direct == null || direct.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        final Set<String> transitive = new LinkedHashSet<>();
+        final Deque<String> pending = new ArrayDeque<>(direct);
+        while (!pending.isEmpty()) {
+            final String dependent = pending.poll();
+            // a name already visited is skipped, which also stops the traversal of a cycle
+            if (transitive.add(dependent)) {
+                final Set<String> next = dependents.get(dependent);
+                if (next != null) {
+                    pending.addAll(next);
+                }
+            }
+        }
+        return transitive;
+    }
+}
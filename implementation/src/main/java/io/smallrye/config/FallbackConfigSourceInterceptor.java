@@ -1,5 +1,8 @@
 package io.smallrye.config;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -30,4 +33,42 @@ public class FallbackConfigSourceInterceptor implements ConfigSourceInterceptor
         }
         return configValue;
     }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final ConfigKey key) {
+        ConfigValue configValue = context.proceed(key);
+        if (configValue == null) {
+            final String map = mapping.apply(key.getName());
+            if (!key.getName().equals(map)) {
+                configValue = context.proceed(map);
+            }
+        }
+        return configValue;
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context,
+            final Collection<String> names) {
+        final Map<String, ConfigValue> values = new HashMap<>(context.proceed(names));
+        final Map<String, String> fallbacks = new HashMap<>();
+        for (String name : names) {
+            if (!values.containsKey(name)) {
+                final String map = mapping.apply(name);
+                if (!name.equals(map)) {
+                    fallbacks.put(name, map);
+                }
+            }
+        }
+
+        if (!fallbacks.isEmpty()) {
+            final Map<String, ConfigValue> fallbackValues = context.proceed(new HashSet<>(fallbacks.values()));
+            for (Map.Entry<String, String> fallback : fallbacks.entrySet()) {
+                final ConfigValue configValue = fallbackValues.get(fallback.getValue());
+                if (configValue != null) {
+                    values.put(fallback.getKey(), configValue);
+                }
+            }
+        }
+        return values;
+    }
 }
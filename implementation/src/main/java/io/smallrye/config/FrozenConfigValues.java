@@ -0,0 +1,130 @@
+package io.smallrye.config;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A snapshot of the resolved {@link ConfigValue} of every name known by the interceptor chain, taken on the first
+ * lookup, and not when the {@link SmallRyeConfig} is built, because a source may list its names or resolve its values
+ * from the {@link SmallRyeConfig} being built. Each name is resolved through the entire chain (profiles, expressions
+ * and ordinals), and the results are stored in an open-addressing table with parallel arrays of names and values, so
+ * a lookup only probes the arrays and does not allocate.
+ * <p>
+ *
+ * The snapshot is taken by a single thread. The lookups made while it is taken, by other threads or by the sources
+ * while they are resolved, are not frozen and must be resolved with the interceptor chain, so they never wait for the
+ * snapshot.
+ * <p>
+ *
+ * The snapshot is never updated. Names unknown to the snapshot, or that failed to resolve when the snapshot was taken,
+ * are not stored, and must be resolved with the interceptor chain.
+ */
+final class FrozenConfigValues {
+    private final ConfigSourceInterceptorContext chain;
+    private final AtomicBoolean freezing = new AtomicBoolean();
+    private volatile String[] names;
+    private volatile ConfigValue[] values;
+
+    private FrozenConfigValues(final ConfigSourceInterceptorContext chain) {
+        this.chain = chain;
+    }
+
+    /**
+     * Retrieves the frozen value of a name.
+     *
+     * @param name the configuration name
+     * @return the frozen {@link ConfigValue}, or {@code null} if the name is not part of the snapshot, or if the
+     *         snapshot is being taken
+     */
+    ConfigValue get(final String name) {
+        final ConfigValue[] values = this.values;
+        if (values == null) {
+            return freeze() ? get(name) : null;
+        }
+
+        final String[] names = this.names;
+        final int mask = names.length - 1;
+        int index = index(name.hashCode(), mask);
+        String candidate;
+        while ((candidate = names[index]) != null) {
+            if (candidate.equals(name)) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Creates the frozen values of the chain, resolved on the first lookup.
+     *
+     * @param chain the interceptor chain
+     * @return the frozen values
+     */
+    static FrozenConfigValues of(final ConfigSourceInterceptorContext chain) {
+        return new FrozenConfigValues(chain);
+    }
+
+    /**
+     * Resolves every name of the chain and freezes the results, unless the snapshot is already being taken.
+     *
+     * @return {@code true} if the snapshot was taken, {@code false} if it is being taken by another lookup
+     */
+    private boolean freeze() {
+        if (!freezing.compareAndSet(false, true)) {
+            return false;
+        }
+
+        final List<String> resolvedNames = new ArrayList<>();
+        final List<ConfigValue> resolvedValues = new ArrayList<>();
+        try {
+            final Iterator<String> namesIterator = chain.iterateNames();
+            while (namesIterator.hasNext()) {
+                final String name = namesIterator.next();
+                final ConfigValue configValue;
+                try {
+                    configValue = chain.proceed(name);
+                } catch (RuntimeException e) {
+                    // the failure is reported when the name is retrieved from the chain
+                    continue;
+                }
+                resolvedNames.add(name);
+                resolvedValues.add(configValue != null ? configValue : ConfigValue.builder().withName(name).build());
+            }
+        } catch (RuntimeException | Error e) {
+            // the snapshot is taken again on the next lookup
+            freezing.set(false);
+            throw e;
+        }
+
+        // at most half full, to keep the probe sequences short
+        final int capacity = Integer.highestOneBit(Math.max(resolvedNames.size(), 4) * 2 - 1) << 1;
+        final String[] names = new String[capacity];
+        final ConfigValue[] values = new ConfigValue[capacity];
+        final int mask = capacity - 1;
+        for (int i = 0; i < resolvedNames.size(); i++) {
+            final String name = resolvedNames.get(i);
+            int index = index(name.hashCode(), mask);
+            while (names[index] != null) {
+                if (names[index].equals(name)) {
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            names[index] = name;
+            values[index] = resolvedValues.get(i);
+        }
+        this.names = names;
+        // published last, the names are visible once the values are
+        this.values = values;
+        return true;
+    }
+
+    private static int index(final int hashCode, final int mask) {
+        // spread the high bits, String hash codes of similar names differ mostly in the low bits
+        final int hash = hashCode * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,28 @@
+package io.smallrye.config;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A {@link Converter} of Integer values, that also converts to a primitive {@code int}, without boxing the result.
+ * The built-in {@link Integer} converter implements this interface, and it is used by
+ * {@link SmallRyeConfig#getInt(String)}.
+ */
+@Experimental("Primitive configuration getters")
+@FunctionalInterface
+public interface IntConverter extends Converter<Integer> {
+    /**
+     * Converts a configuration value to a primitive {@code int}.
+     *
+     * @param value the String representation of the property value
+     * @return the converted value
+     * @throws IllegalArgumentException if the value cannot be converted to an {@code int}
+     */
+    int convertInt(String value);
+
+    @Override
+    default Integer convert(final String value) {
+        return convertInt(value);
+    }
+}
@@ -0,0 +1,163 @@
+package io.smallrye.config;
+
+import java.net.URL;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The Java Flight Recorder events of the configuration. This class must only be used through {@link ConfigEvents},
+ * which checks that the Flight Recorder API is available.
+ */
+final class JfrConfigEvents {
+    private static final String CATEGORY = "SmallRye Config";
+
+    private static final EventType LOOKUP = EventType.getEventType(LookupEvent.class);
+    private static final EventType SOURCE_LOAD = EventType.getEventType(SourceLoadEvent.class);
+    private static final EventType BUILD = EventType.getEventType(BuildEvent.class);
+    private static final EventType MAPPING = EventType.getEventType(MappingEvent.class);
+
+    private JfrConfigEvents() {
+        throw new UnsupportedOperationException();
+    }
+
+    static Object beginLookup() {
+        if (!LOOKUP.isEnabled()) {
+            return null;
+        }
+        final LookupEvent event = new LookupEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commitLookup(final Object event, final ConfigValue configValue, final boolean cacheHit) {
+        final LookupEvent lookupEvent = (LookupEvent) event;
+        lookupEvent.end();
+        if (lookupEvent.shouldCommit()) {
+            lookupEvent.name = configValue.getName();
+            lookupEvent.source = configValue.getConfigSourceName();
+            lookupEvent.cacheHit = cacheHit;
+            lookupEvent.commit();
+        }
+    }
+
+    static Object beginSourceLoad() {
+        if (!SOURCE_LOAD.isEnabled()) {
+            return null;
+        }
+        final SourceLoadEvent event = new SourceLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commitSourceLoad(final Object event, final URL url, final ConfigSource configSource) {
+        final SourceLoadEvent sourceLoadEvent = (SourceLoadEvent) event;
+        sourceLoadEvent.end();
+        if (sourceLoadEvent.shouldCommit()) {
+            sourceLoadEvent.url = url.toString();
+            sourceLoadEvent.source = configSource.getName();
+            sourceLoadEvent.properties = configSource.getPropertyNames().size();
+            sourceLoadEvent.commit();
+        }
+    }
+
+    static Object beginBuild() {
+        if (!BUILD.isEnabled()) {
+            return null;
+        }
+        final BuildEvent event = new BuildEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commitBuild(final Object event, final String phase, final int sources, final int interceptors) {
+        final BuildEvent buildEvent = (BuildEvent) event;
+        buildEvent.end();
+        if (buildEvent.shouldCommit()) {
+            buildEvent.phase = phase;
+            buildEvent.sources = sources;
+            buildEvent.interceptors = interceptors;
+            buildEvent.commit();
+        }
+    }
+
+    static Object beginMapping() {
+        if (!MAPPING.isEnabled()) {
+            return null;
+        }
+        final MappingEvent event = new MappingEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commitMapping(final Object event, final int roots, final int properties) {
+        final MappingEvent mappingEvent = (MappingEvent) event;
+        mappingEvent.end();
+        if (mappingEvent.shouldCommit()) {
+            mappingEvent.roots = roots;
+            mappingEvent.properties = properties;
+            mappingEvent.commit();
+        }
+    }
+
+    @Name("io.smallrye.config.Lookup")
+    @Label("Configuration Lookup")
+    @Category(CATEGORY)
+    @Description("The lookup of a configuration value")
+    @StackTrace(false)
+    static final class LookupEvent extends Event {
+        @Label("Name")
+        String name;
+        @Label("Source")
+        @Description("The name of the source of the value")
+        String source;
+        @Label("Cache Hit")
+        @Description("If the value was retrieved from the frozen values or the value cache")
+        boolean cacheHit;
+    }
+
+    @Name("io.smallrye.config.SourceLoad")
+    @Label("Configuration Source Load")
+    @Category(CATEGORY)
+    @Description("The load of a configuration source from a location")
+    static final class SourceLoadEvent extends Event {
+        @Label("URL")
+        String url;
+        @Label("Source")
+        String source;
+        @Label("Properties")
+        int properties;
+    }
+
+    @Name("io.smallrye.config.Build")
+    @Label("Configuration Build")
+    @Category(CATEGORY)
+    @Description("A phase of the build of a SmallRyeConfig")
+    static final class BuildEvent extends Event {
+        @Label("Phase")
+        String phase;
+        @Label("Sources")
+        int sources;
+        @Label("Interceptors")
+        int interceptors;
+    }
+
+    @Name("io.smallrye.config.Mapping")
+    @Label("Configuration Mapping")
+    @Category(CATEGORY)
+    @Description("The mapping of the configuration roots")
+    static final class MappingEvent extends Event {
+        @Label("Roots")
+        int roots;
+        @Label("Properties")
+        @Description("The number of property names swept")
+        int properties;
+    }
+}
@@ -182,6 +182,20 @@ public final class KeyMap<V> extends HashMap<String, KeyMap<V>> {
         return result == null ? null : result.getRootValue();
     }
 
+    /**
+     * Finds the root value of the segments of a name, already split by a {@link NameIterator}.
+     */
+    V findRootValue(final String[] segments) {
+        KeyMap<V> current = this;
+        for (String segment : segments) {
+            current = current.getOrDefault(segment, current.any);
+            if (current == null) {
+                return null;
+            }
+        }
+        return current.getRootValue();
+    }
+
     public boolean hasRootValue(final String path) {
         return hasRootValue(new NameIterator(path));
     }
@@ -41,4 +41,9 @@ public class KeyMapBackedConfigSource extends AbstractConfigSource {
     public String getValue(final String propertyName) {
         return properties.findRootValue(propertyName);
     }
+
+    String getValue(final ConfigKey key) {
+        final String[] segments = key.getSegments();
+        return segments != null ? properties.findRootValue(segments) : getValue(key.getName());
+    }
 }
@@ -0,0 +1,28 @@
+package io.smallrye.config;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A {@link Converter} of Long values, that also converts to a primitive {@code long}, without boxing the result.
+ * The built-in {@link Long} converter implements this interface, and it is used by
+ * {@link SmallRyeConfig#getLong(String)}.
+ */
+@Experimental("Primitive configuration getters")
+@FunctionalInterface
+public interface LongConverter extends Converter<Long> {
+    /**
+     * Converts a configuration value to a primitive {@code long}.
+     *
+     * @param value the String representation of the property value
+     * @return the converted value
+     * @throws IllegalArgumentException if the value cannot be converted to a {@code long}
+     */
+    long convertLong(String value);
+
+    @Override
+    default Long convert(final String value) {
+        return convertLong(value);
+    }
+}
@@ -0,0 +1,181 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * The lookup statistics of each interceptor and source of the chain of a {@link SmallRyeConfig}, collected if enabled
+ * with {@link SmallRyeConfigBuilder#withLookupStatistics(boolean)}, and retrieved with
+ * {@link SmallRyeConfig#getLookupStatistics()}.
+ * <p>
+ *
+ * The statistics only count the lookups of a single name that reach the interceptor or the source. A source skipped
+ * because its {@link PropertyNamesFilter} excludes the name is not counted. The time of an interceptor excludes the
+ * time spent in the rest of the chain, so the time of each interceptor and source only measures its own work. The
+ * counters are {@link LongAdder}, so concurrent lookups do not contend on the statistics, and the statistics can be
+ * polled at any time by a metrics backend.
+ * <p>
+ *
+ * The statistics are kept across a {@link SmallRyeConfig#reload()}, and a refreshed source continues the statistics of
+ * the source it replaces.
+ */
+@Experimental("Lookup statistics")
+public final class LookupStatistics {
+    /**
+     * The sample rate of the latency histogram, one lookup every 64.
+     */
+    private static final int SAMPLE_RATE = 64;
+    /**
+     * The number of buckets of the latency histogram, where the last bucket counts every latency above 2^30 ns.
+     */
+    static final int BUCKETS = 32;
+
+    /**
+     * The time spent in the nested elements of the chain, by the element currently executed in each thread.
+     */
+    private static final ThreadLocal<long[]> NESTED_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final List<Statistics> interceptors;
+    private final List<Statistics> sources;
+
+    LookupStatistics(final List<Statistics> interceptors, final List<Statistics> sources) {
+        this.interceptors = Collections.unmodifiableList(interceptors);
+        this.sources = Collections.unmodifiableList(sources);
+    }
+
+    /**
+     * @return the statistics of each interceptor, in the order of the chain
+     */
+    public List<Statistics> getInterceptors() {
+        return interceptors;
+    }
+
+    /**
+     * @return the statistics of each source, in the order of the chain
+     */
+    public List<Statistics> getSources() {
+        return sources;
+    }
+
+    /**
+     * Resets the statistics of every interceptor and source.
+     */
+    public void reset() {
+        for (Statistics statistics : interceptors) {
+            statistics.reset();
+        }
+        for (Statistics statistics : sources) {
+            statistics.reset();
+        }
+    }
+
+    static long[] nestedNanos() {
+        return NESTED_NANOS.get();
+    }
+
+    /**
+     * The lookup statistics of a single interceptor or source.
+     */
+    @Experimental("Lookup statistics")
+    public static final class Statistics implements Serializable {
+        private static final long serialVersionUID = -5817001393496442718L;
+
+        private final String name;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        Statistics(final String name) {
+            this.name = name;
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * @return the class name of the interceptor, or the name of the source
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the number of lookups
+         */
+        public long getCalls() {
+            return hits.sum() + misses.sum();
+        }
+
+        /**
+         * @return the number of lookups that returned a value
+         */
+        public long getHits() {
+            return hits.sum();
+        }
+
+        /**
+         * @return the number of lookups that did not return a value
+         */
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * @return the cumulative time of the lookups in nanoseconds, without the time spent in the rest of the chain
+         */
+        public long getNanos() {
+            return nanos.sum();
+        }
+
+        /**
+         * The histogram of the latency of a sample of the lookups, without the time spent in the rest of the chain. The
+         * bucket {@code i} counts the latencies lower than {@code 2^i} nanoseconds and higher or equal to
+         * {@code 2^(i-1)}, and the last bucket counts every higher latency.
+         *
+         * @return the number of sampled lookups in each bucket
+         */
+        public long[] getHistogram() {
+            final long[] histogram = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = this.histogram[i].sum();
+            }
+            return histogram;
+        }
+
+        void reset() {
+            hits.reset();
+            misses.reset();
+            nanos.reset();
+            for (LongAdder bucket : histogram) {
+                bucket.reset();
+            }
+        }
+
+        /**
+         * Records a lookup. The caller saves the nested time of its parent element before the lookup, and resets it,
+         * so the nested time after the lookup is the time spent by the elements nested in this lookup.
+         *
+         * @param nestedNanos the nested time of the current thread
+         * @param parentNanos the nested time of the parent element before the lookup
+         * @param start the start of the lookup
+         * @param hit {@code true} if the lookup returned a value
+         */
+        void record(final long[] nestedNanos, final long parentNanos, final long start, final boolean hit) {
+            final long elapsed = System.nanoTime() - start;
+            final long self = Math.max(0, elapsed - nestedNanos[0]);
+            nestedNanos[0] = parentNanos + elapsed;
+
+            (hit ? hits : misses).increment();
+            nanos.add(self);
+            if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0) {
+                histogram[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(self))].increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package io.smallrye.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * Loads configuration sources concurrently, with {@link SmallRyeConfigBuilder#withParallelSources(boolean)}. Each
+ * task starts when it is submitted, and {@link #join()} waits for every task and returns the sources of all tasks in
+ * the order of submission, so the sources are the same, and in the same order, as the sources loaded in sequence. The
+ * same instance loads the sources discovered by the builder, and then the sources of the independent
+ * {@link ConfigSourceFactory}, in the build of a single {@link SmallRyeConfig}.
+ * <p>
+ *
+ * Without an executor set in the builder, the tasks run on virtual threads if the JVM supports them, or on a pool of
+ * one thread per processor, and at least 4 threads, which is shut down when the sources are loaded.
+ */
+final class ParallelSources implements AutoCloseable {
+    private static final MethodHandle VIRTUAL_THREADS = virtualThreads();
+    private static final int MIN_THREADS = 4;
+
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final ClassLoader classLoader;
+    private final List<CompletableFuture<? extends Iterable<ConfigSource>>> tasks = new ArrayList<>();
+
+    ParallelSources(final Executor executor, final ClassLoader classLoader) {
+        this.ownedExecutor = executor == null ? defaultExecutor() : null;
+        this.executor = executor == null ? ownedExecutor : executor;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Starts a task that loads sources. The task runs with the class loader of the builder as the context class
+     * loader, and a lookup of a configuration built by the current thread does not wait for it.
+     */
+    void submit(final Supplier<? extends Iterable<ConfigSource>> task) {
+        final Supplier<? extends Iterable<ConfigSource>> buildTask = SmallRyeConfigProviderResolver
+                .withCurrentBuilds(task);
+        tasks.add(CompletableFuture.supplyAsync(() -> {
+            final Thread thread = Thread.currentThread();
+            final ClassLoader contextClassLoader = thread.getContextClassLoader();
+            thread.setContextClassLoader(classLoader);
+            try {
+                return buildTask.get();
+            } finally {
+                thread.setContextClassLoader(contextClassLoader);
+            }
+        }, executor));
+    }
+
+    /**
+     * Adds sources already loaded, in the order of submission.
+     */
+    void add(final Iterable<ConfigSource> sources) {
+        tasks.add(CompletableFuture.completedFuture(sources));
+    }
+
+    /**
+     * Runs a task that loads sources in the current thread. A failure of the task is reported by {@link #join()},
+     * like the failures of the concurrent tasks.
+     */
+    void run(final Supplier<? extends Iterable<ConfigSource>> task) {
+        try {
+            add(task.get());
+        } catch (RuntimeException | Error e) {
+            final CompletableFuture<Iterable<ConfigSource>> failure = new CompletableFuture<>();
+            failure.completeExceptionally(e);
+            tasks.add(failure);
+        }
+    }
+
+    /**
+     * Waits for every task submitted since the last join, and returns the sources in the order of submission. If a
+     * single task failed, its exception is thrown as is. If more than one task failed, the exception of the first
+     * failed task is the cause of the thrown exception, and the others are suppressed.
+     */
+    List<ConfigSource> join() {
+        final List<ConfigSource> sources = new ArrayList<>();
+        final List<Throwable> failures = new ArrayList<>();
+        final List<CompletableFuture<? extends Iterable<ConfigSource>>> tasks = new ArrayList<>(this.tasks);
+        this.tasks.clear();
+        for (CompletableFuture<? extends Iterable<ConfigSource>> task : tasks) {
+            try {
+                for (ConfigSource source : task.join()) {
+                    sources.add(source);
+                }
+            } catch (CompletionException e) {
+                failures.add(e.getCause() != null ? e.getCause() : e);
+            }
+        }
+
+        if (failures.size() == 1 && failures.get(0) instanceof RuntimeException) {
+            throw (RuntimeException) failures.get(0);
+        } else if (failures.size() == 1 && failures.get(0) instanceof Error) {
+            throw (Error) failures.get(0);
+        } else if (!failures.isEmpty()) {
+            final IllegalStateException exception = ConfigMessages.msg.failedToLoadSources(failures.size(),
+                    failures.get(0));
+            for (int i = 1; i < failures.size(); i++) {
+                exception.addSuppressed(failures.get(i));
+            }
+            throw exception;
+        }
+        return sources;
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private static ExecutorService defaultExecutor() {
+        if (VIRTUAL_THREADS != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREADS.invoke();
+            } catch (Throwable e) {
+                // fall back to platform threads
+            }
+        }
+
+        // the sources are mostly loaded from files or remote resources, so a few threads are used on small hosts
+        final int threads = Math.max(MIN_THREADS, Runtime.getRuntime().availableProcessors());
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new SourcesThreadFactory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static MethodHandle virtualThreads() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static final class SourcesThreadFactory implements ThreadFactory {
+        private static final AtomicInteger POOL = new AtomicInteger();
+
+        private final String prefix = "smallrye-config-sources-" + POOL.incrementAndGet() + "-";
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -4,11 +4,15 @@ import static io.smallrye.config.Converters.STRING_CONVERTER;
 import static io.smallrye.config.Converters.newCollectionConverter;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
@@ -20,7 +24,7 @@ public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor {
     public static final String SMALLRYE_PROFILE_PARENT = "smallrye.config.profile.parent";
 
     private static final long serialVersionUID = -6305289277993917313L;
-    private static final Comparator<ConfigValue> CONFIG_SOURCE_COMPARATOR = (o1, o2) -> {
+    static final Comparator<ConfigValue> CONFIG_SOURCE_COMPARATOR = (o1, o2) -> {
         int res = Integer.compare(o2.getConfigSourceOrdinal(), o1.getConfigSourceOrdinal());
         if (res != 0) {
             return res;
@@ -70,6 +74,87 @@ public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor {
         return context.proceed(name);
     }
 
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context,
+            final Collection<String> names) {
+        if (profiles.length == 0) {
+            return context.proceed(names);
+        }
+
+        // the profile names, the normalized names and the names are retrieved together
+        final Set<String> lookup = new LinkedHashSet<>();
+        for (String name : names) {
+            final String normalizeName = normalizeName(name);
+            for (String profile : profiles) {
+                lookup.add("%" + profile + "." + normalizeName);
+            }
+            lookup.add(normalizeName);
+            lookup.add(name);
+        }
+
+        final Map<String, ConfigValue> lookupValues;
+        try {
+            lookupValues = context.proceed(lookup);
+        } catch (final NoSuchElementException e) {
+            // the main property is allowed to fail, so fallback to single lookups
+            return ConfigSourceInterceptor.super.getValues(context, names);
+        }
+
+        final Map<String, ConfigValue> values = new HashMap<>();
+        for (String name : names) {
+            final ConfigValue configValue = getValue(lookupValues, name);
+            if (configValue != null) {
+                values.put(name, configValue);
+            }
+        }
+        return values;
+    }
+
+    private ConfigValue getValue(final Map<String, ConfigValue> lookupValues, final String name) {
+        final String normalizeName = normalizeName(name);
+        for (String profile : profiles) {
+            final ConfigValue profileValue = lookupValues.get("%" + profile + "." + normalizeName);
+            if (profileValue != null) {
+                final ConfigValue originalValue = lookupValues.get(normalizeName);
+                if (originalValue != null && CONFIG_SOURCE_COMPARATOR.compare(profileValue, originalValue) > 0) {
+                    return originalValue;
+                }
+                return profileValue.withName(normalizeName);
+            }
+        }
+
+        return lookupValues.get(name);
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final ConfigKey key) {
+        if (profiles.length > 0) {
+            final ConfigKey.ProfileKeys profileKeys = key.getProfileKeys(profiles);
+            ConfigValue profileValue = null;
+            for (ConfigKey profileKey : profileKeys.getKeys()) {
+                profileValue = context.proceed(profileKey);
+                if (profileValue != null) {
+                    break;
+                }
+            }
+
+            if (profileValue != null) {
+                final ConfigKey normalizeKey = profileKeys.getNormalizeKey();
+                try {
+                    final ConfigValue originalValue = context.proceed(normalizeKey);
+                    if (originalValue != null && CONFIG_SOURCE_COMPARATOR.compare(profileValue, originalValue) > 0) {
+                        return originalValue;
+                    }
+                } catch (final NoSuchElementException e) {
+                    // We couldn't find the main property so we fallback to the profile property because it exists.
+                }
+                return profileValue.withName(normalizeKey.getName());
+            }
+        }
+
+        return context.proceed(key);
+    }
+
     public ConfigValue getProfileValue(final ConfigSourceInterceptorContext context, final String normalizeName) {
         for (String profile : profiles) {
             final ConfigValue profileValue = context.proceed("%" + profile + "." + normalizeName);
@@ -107,6 +192,10 @@ public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor {
     }
 
     private String normalizeName(final String name) {
+        return normalizeName(name, profiles);
+    }
+
+    static String normalizeName(final String name, final String[] profiles) {
         for (String profile : profiles) {
             if (name.startsWith("%" + profile + ".")) {
                 return name.substring(profile.length() + 2);
@@ -0,0 +1,137 @@
+package io.smallrye.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link ProfileConfigSourceInterceptor} that retrieves the profile values with an index of the profile names of
+ * each source, built with {@link SmallRyeConfigBuilder#withProfileIndex(boolean)}. The profile value is then compared
+ * with the value of the name without the profile, resolved with the chain, like in
+ * {@link ProfileConfigSourceInterceptor}.
+ * <p>
+ *
+ * For each source with a fixed set of names, the names with an active profile prefix are indexed by the name without
+ * the profile, with the source name of each profile, in the profile lookup order. A profile value is retrieved by
+ * probing the index of each source in the chain order, so a name without profile values does not build or look up
+ * any profile name. Sources without an index are queried with each profile name.
+ */
+final class ProfileIndexConfigSourceInterceptor extends ProfileConfigSourceInterceptor {
+    private static final long serialVersionUID = 2584718429406412785L;
+
+    private final String[] profiles;
+    private final ConfigValueConfigSource[] sources;
+    private final PropertyNamesFilter[] filters;
+    private final Map<String, String[]>[] indexes;
+
+    @SuppressWarnings("unchecked")
+    ProfileIndexConfigSourceInterceptor(final String[] profiles, final List<SmallRyeConfigSourceInterceptor> sources) {
+        super(declaredProfiles(profiles));
+        this.profiles = profiles;
+        this.sources = new ConfigValueConfigSource[sources.size()];
+        this.filters = new PropertyNamesFilter[sources.size()];
+        this.indexes = new Map[sources.size()];
+        for (int i = 0; i < sources.size(); i++) {
+            final SmallRyeConfigSourceInterceptor source = sources.get(i);
+            this.sources[i] = source.getConfigValueConfigSource();
+            this.filters[i] = source.getPropertyNamesFilter();
+            // the names of the environment variables are not the names of the lookup
+            if (filters[i] != null && !(source.getSource() instanceof EnvConfigSource)) {
+                this.indexes[i] = index(profiles, this.sources[i].getPropertyNames());
+            }
+        }
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final ConfigKey key) {
+        final ConfigKey normalizeKey = key.getProfileKeys(profiles).getNormalizeKey();
+        final ConfigValue profileValue = getProfileValue(context, normalizeKey.getName());
+        if (profileValue != null) {
+            try {
+                final ConfigValue originalValue = context.proceed(normalizeKey);
+                if (originalValue != null && CONFIG_SOURCE_COMPARATOR.compare(profileValue, originalValue) > 0) {
+                    return originalValue;
+                }
+            } catch (final NoSuchElementException e) {
+                // We couldn't find the main property so we fallback to the profile property because it exists.
+            }
+            return profileValue.withName(normalizeKey.getName());
+        }
+        return context.proceed(key);
+    }
+
+    /**
+     * Retrieves the value of the first profile with a value, in the first source with a value for the profile.
+     */
+    @Override
+    public ConfigValue getProfileValue(final ConfigSourceInterceptorContext context, final String normalizeName) {
+        ConfigValue profileValue = null;
+        // only profiles before the profile of the current value may replace it
+        int position = profiles.length;
+        String[] profileNames = null;
+        for (int i = 0; i < sources.length && position > 0; i++) {
+            final Map<String, String[]> index = indexes[i];
+            final String[] sourceNames;
+            if (index != null) {
+                sourceNames = index.get(normalizeName);
+                if (sourceNames == null) {
+                    continue;
+                }
+            } else {
+                if (profileNames == null) {
+                    profileNames = profileNames(profiles, normalizeName);
+                }
+                sourceNames = profileNames;
+            }
+
+            final PropertyNamesFilter filter = index == null ? filters[i] : null;
+            for (int j = 0; j < position; j++) {
+                if (sourceNames[j] != null && (filter == null || filter.mayContain(sourceNames[j]))) {
+                    final ConfigValue configValue = sources[i].getConfigValue(sourceNames[j]);
+                    if (configValue != null) {
+                        profileValue = configValue;
+                        position = j;
+                        break;
+                    }
+                }
+            }
+        }
+        return profileValue;
+    }
+
+    private static Map<String, String[]> index(final String[] profiles, final Iterable<String> names) {
+        final Map<String, String[]> index = new HashMap<>();
+        for (String name : names) {
+            if (name.isEmpty() || name.charAt(0) != '%') {
+                continue;
+            }
+            for (int i = 0; i < profiles.length; i++) {
+                final String profile = profiles[i];
+                if (name.length() > profile.length() + 2 && name.startsWith(profile, 1)
+                        && name.charAt(profile.length() + 1) == '.') {
+                    final String normalizeName = name.substring(profile.length() + 2);
+                    index.computeIfAbsent(normalizeName, k -> new String[profiles.length])[i] = name;
+                }
+            }
+        }
+        return index;
+    }
+
+    private static String[] profileNames(final String[] profiles, final String normalizeName) {
+        final String[] profileNames = new String[profiles.length];
+        for (int i = 0; i < profiles.length; i++) {
+            profileNames[i] = "%" + profiles[i] + "." + normalizeName;
+        }
+        return profileNames;
+    }
+
+    private static List<String> declaredProfiles(final String[] profiles) {
+        final List<String> declaredProfiles = new ArrayList<>(Arrays.asList(profiles));
+        Collections.reverse(declaredProfiles);
+        return declaredProfiles;
+    }
+}
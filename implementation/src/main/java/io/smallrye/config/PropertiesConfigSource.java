@@ -27,11 +27,14 @@ import io.smallrye.config.common.utils.ConfigSourceUtil;
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
-public class PropertiesConfigSource extends MapBackedConfigSource {
+public class PropertiesConfigSource extends MapBackedConfigSource implements ConfigImage.RecordableSource {
     private static final long serialVersionUID = 1866835565147832432L;
 
     private static final String NAME_PREFIX = "PropertiesConfigSource[source=";
 
+    private final boolean ownsProperties;
+    private final URL location;
+
     /**
      * Construct a new instance
      *
@@ -40,17 +43,42 @@ public class PropertiesConfigSource extends MapBackedConfigSource {
      */
     public PropertiesConfigSource(URL url) throws IOException {
         super(NAME_PREFIX + url.toString() + "]", ConfigSourceUtil.urlToMap(url));
+        this.ownsProperties = true;
+        this.location = url;
     }
 
     public PropertiesConfigSource(URL url, int ordinal) throws IOException {
         super(NAME_PREFIX + url.toString() + "]", ConfigSourceUtil.urlToMap(url), ordinal);
+        this.ownsProperties = true;
+        this.location = url;
     }
 
     public PropertiesConfigSource(Properties properties, String source) {
         super(NAME_PREFIX + source + "]", ConfigSourceUtil.propertiesToMap(properties));
+        this.ownsProperties = true;
+        this.location = null;
     }
 
     public PropertiesConfigSource(Map<String, String> properties, String source, int ordinal) {
         super(NAME_PREFIX + source + "]", properties, ordinal);
+        this.ownsProperties = false;
+        this.location = null;
+    }
+
+    /**
+     * Only the file loaded by this class is recorded in a {@link ConfigImage}. A subclass may change the values of the
+     * file, so it must provide the location itself to be recorded.
+     */
+    @Override
+    public URL getLocation() {
+        return getClass() == PropertiesConfigSource.class ? location : null;
+    }
+
+    /**
+     * A filter of the names is only possible if the source created its own copy of the properties. Otherwise, the
+     * properties may still be changed by the caller that provided the map.
+     */
+    PropertyNamesFilter getPropertyNamesFilter() {
+        return ownsProperties ? PropertyNamesFilter.of(getPropertyNames()) : null;
     }
 }
@@ -0,0 +1,37 @@
+package io.smallrye.config;
+
+import java.util.Collection;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A summary of the property names of a {@link org.eclipse.microprofile.config.spi.ConfigSource}, used by the
+ * interceptor chain to skip the lookup in a source that cannot contain a name.
+ * <p>
+ *
+ * A filter may report false positives, but never false negatives: if {@link PropertyNamesFilter#mayContain(String)}
+ * returns {@code false}, the source must return {@code null} for the name.
+ *
+ * @see ConfigValueConfigSource#getPropertyNamesFilter()
+ */
+@Experimental("Skip sources that cannot contain a property name")
+public interface PropertyNamesFilter {
+    /**
+     * Check if the source may contain the property name.
+     *
+     * @param name the property name
+     * @return {@code false} if the source does not contain the name, {@code true} if it may contain it
+     */
+    boolean mayContain(String name);
+
+    /**
+     * Creates a {@link PropertyNamesFilter} for a complete set of property names. The returned filter is a Bloom
+     * filter, with a false positive rate below 2%, and does not hold a reference to the names.
+     *
+     * @param names the property names
+     * @return a {@link PropertyNamesFilter}
+     */
+    static PropertyNamesFilter of(Collection<String> names) {
+        return new BloomPropertyNamesFilter(names);
+    }
+}
@@ -0,0 +1,139 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * The index of the property names of a {@link SmallRyeConfig}, kept with the interceptor chain and only used when a
+ * {@link ConfigValueCache} is enabled, since only the invalidations of the cache update it. Without the cache, the
+ * names are collected from the chain on each retrieval, so dynamic sources like the system properties report names
+ * added after the build. The names are computed on the first retrieval, and not when the chain is built, because a
+ * source may list its names from the {@link SmallRyeConfig} being built. The names are exposed as an unmodifiable view
+ * of the index, so retrieving the names does not allocate.
+ * <p>
+ *
+ * An invalidation of a single name never resolves a value, because a value may require the expansion of expressions
+ * or the lookup of secrets. The name is added if a source still contains it, and otherwise the index is marked as
+ * dirty, to be computed again on the next retrieval, since the name may have been removed or may still be provided
+ * with a profile or in the form of an environment variable. Profile names are normalized by the interceptor chain, so
+ * an invalidation of a profile name, or of the entire cache, also marks the index as dirty.
+ * <p>
+ *
+ * The index also keeps a sorted copy of the names, to find the names with a prefix (like the indexed properties of a
+ * name) without scanning every name.
+ */
+final class PropertyNamesIndex implements Serializable {
+    private static final long serialVersionUID = -2291372412562186342L;
+
+    private final ConfigSourceInterceptorContext chain;
+    private final List<ConfigSource> sources;
+
+    private volatile Set<String> names;
+    private volatile Set<String> namesView;
+    private volatile String[] sortedNames;
+    private final AtomicInteger modifications = new AtomicInteger();
+
+    PropertyNamesIndex(final ConfigSourceInterceptorContext chain, final List<ConfigSource> sources) {
+        this.chain = chain;
+        this.sources = sources;
+    }
+
+    Set<String> get() {
+        final Set<String> namesView = this.namesView;
+        if (namesView != null) {
+            return namesView;
+        }
+
+        synchronized (this) {
+            if (this.namesView == null) {
+                final Set<String> names = ConcurrentHashMap.newKeySet();
+                final Iterator<String> namesIterator = chain.iterateNames();
+                while (namesIterator.hasNext()) {
+                    names.add(namesIterator.next());
+                }
+                this.names = names;
+                this.namesView = Collections.unmodifiableSet(names);
+            }
+            return this.namesView;
+        }
+    }
+
+    /**
+     * Retrieves the names starting with a prefix, with a binary search on the sorted names, so the cost is
+     * proportional to the number of matches and not to the number of names. The sorted names are computed on the first
+     * call, and discarded when a name is added or removed.
+     *
+     * @param prefix the prefix of the names
+     * @return the names starting with the prefix, in lexicographic order
+     */
+    List<String> getNamesWithPrefix(final String prefix) {
+        String[] sortedNames = this.sortedNames;
+        if (sortedNames == null) {
+            final int modifications = this.modifications.get();
+            sortedNames = get().toArray(new String[0]);
+            Arrays.sort(sortedNames);
+            // only publish if the names did not change in the meantime
+            if (modifications == this.modifications.get()) {
+                this.sortedNames = sortedNames;
+            }
+        }
+
+        int from = Arrays.binarySearch(sortedNames, prefix);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        int to = from;
+        while (to < sortedNames.length && sortedNames[to].startsWith(prefix)) {
+            to++;
+        }
+        return from == to ? Collections.emptyList() : Arrays.asList(sortedNames).subList(from, to);
+    }
+
+    synchronized void invalidate() {
+        modifications.incrementAndGet();
+        namesView = null;
+        names = null;
+        sortedNames = null;
+    }
+
+    void invalidate(final String name) {
+        final Set<String> names = this.names;
+        if (names == null || name.startsWith("%")) {
+            invalidate();
+            return;
+        }
+
+        try {
+            if (!containsName(name)) {
+                invalidate();
+                return;
+            }
+        } catch (RuntimeException e) {
+            // a source failing to list its names, the index is computed again on the next retrieval
+            invalidate();
+            return;
+        }
+
+        if (names.add(name)) {
+            modifications.incrementAndGet();
+            sortedNames = null;
+        }
+    }
+
+    private boolean containsName(final String name) {
+        for (ConfigSource source : sources) {
+            if (source.getPropertyNames().contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
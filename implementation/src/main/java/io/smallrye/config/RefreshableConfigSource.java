@@ -0,0 +1,30 @@
+package io.smallrye.config;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A {@link ConfigSource} that can reload its values, with {@link SmallRyeConfig#reload()}. A source never changes
+ * its values in place: a refresh returns a new source with the reloaded values, so a lookup in progress keeps reading
+ * the values of the source it started with.
+ * <p>
+ *
+ * Each refresh that changes the values of the source increments the version of the source. A refresh that finds the
+ * same values returns the same source, so the {@link SmallRyeConfig} is not rebuilt.
+ */
+@Experimental("Reload of configuration sources")
+public interface RefreshableConfigSource extends ConfigSource {
+    /**
+     * @return the version of the values of this source, incremented by every refresh that changes the values
+     */
+    long getVersion();
+
+    /**
+     * Reloads the values of this source. This source is not modified.
+     *
+     * @return this source if the values did not change, or a new source with the reloaded values and a higher
+     *         version
+     */
+    RefreshableConfigSource refresh();
+}
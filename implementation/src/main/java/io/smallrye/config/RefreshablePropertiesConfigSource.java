@@ -0,0 +1,53 @@
+package io.smallrye.config;
+
+import java.io.IOException;
+import java.net.URL;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A {@link PropertiesConfigSource} of a properties file, that reads the file again on every
+ * {@link RefreshableConfigSource#refresh()}.
+ */
+@Experimental("Reload of configuration sources")
+public class RefreshablePropertiesConfigSource extends PropertiesConfigSource implements RefreshableConfigSource {
+    private static final long serialVersionUID = -6402167592640193853L;
+
+    private final URL url;
+    private final int defaultOrdinal;
+    private final long version;
+
+    /**
+     * Construct a new instance
+     *
+     * @param url a property file location
+     * @param defaultOrdinal the ordinal of the source, if the file does not set one
+     * @throws IOException if an error occurred when reading from the input stream
+     */
+    public RefreshablePropertiesConfigSource(URL url, int defaultOrdinal) throws IOException {
+        this(url, defaultOrdinal, 0);
+    }
+
+    private RefreshablePropertiesConfigSource(URL url, int defaultOrdinal, long version) throws IOException {
+        super(url, defaultOrdinal);
+        this.url = url;
+        this.defaultOrdinal = defaultOrdinal;
+        this.version = version;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public RefreshableConfigSource refresh() {
+        try {
+            final RefreshablePropertiesConfigSource refreshed = new RefreshablePropertiesConfigSource(url,
+                    defaultOrdinal, version + 1);
+            return refreshed.getProperties().equals(getProperties()) ? this : refreshed;
+        } catch (IOException e) {
+            throw ConfigMessages.msg.failedToLoadResource(e);
+        }
+    }
+}
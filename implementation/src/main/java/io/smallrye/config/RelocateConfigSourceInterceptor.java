@@ -1,7 +1,13 @@
 package io.smallrye.config;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import javax.annotation.Priority;
@@ -29,4 +35,39 @@ public class RelocateConfigSourceInterceptor implements ConfigSourceInterceptor
         }
         return configValue;
     }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final ConfigKey key) {
+        final String name = key.getName();
+        final String map = mapping.apply(name);
+        return name.equals(map) ? context.proceed(key) : getValue(context, name);
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context,
+            final Collection<String> names) {
+        final Map<String, String> mappings = new HashMap<>();
+        final Set<String> relocations = new HashSet<>();
+        for (String name : names) {
+            final String map = mapping.apply(name);
+            mappings.put(name, map);
+            relocations.add(map);
+        }
+
+        final Map<String, ConfigValue> relocated = context.proceed(relocations);
+        final Map<String, ConfigValue> values = new HashMap<>();
+        final List<String> notRelocated = new ArrayList<>();
+        for (Map.Entry<String, String> mapping : mappings.entrySet()) {
+            final ConfigValue configValue = relocated.get(mapping.getValue());
+            if (configValue != null) {
+                values.put(mapping.getKey(), configValue);
+            } else if (!mapping.getKey().equals(mapping.getValue())) {
+                notRelocated.add(mapping.getKey());
+            }
+        }
+        if (!notRelocated.isEmpty()) {
+            values.putAll(context.proceed(notRelocated));
+        }
+        return values;
+    }
 }
@@ -1,5 +1,7 @@
 package io.smallrye.config;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Priority;
@@ -22,7 +24,28 @@ public class SecretKeysConfigSourceInterceptor implements ConfigSourceIntercepto
         return context.proceed(name);
     }
 
-    private boolean isSecret(final String name) {
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final ConfigKey key) {
+        if (SecretKeys.isLocked() && isSecret(key.getName())) {
+            throw ConfigMessages.msg.notAllowed(key.getName());
+        }
+        return context.proceed(key);
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context,
+            final Collection<String> names) {
+        if (SecretKeys.isLocked()) {
+            for (String name : names) {
+                if (isSecret(name)) {
+                    throw ConfigMessages.msg.notAllowed(name);
+                }
+            }
+        }
+        return context.proceed(names);
+    }
+
+    boolean isSecret(final String name) {
         return secrets.contains(name);
     }
 }
@@ -0,0 +1,205 @@
+package io.smallrye.config;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * The service index of the configuration, read with {@link SmallRyeConfigBuilder#withServiceIndex(boolean)} instead
+ * of a {@link java.util.ServiceLoader} lookup of each service. The index is generated at build time by the
+ * {@code io.smallrye.config.index.ServiceIndexProcessor} of {@code smallrye-config-service-index}, in the
+ * {@value #INDEX} resource of each jar, with a line for each implementation of a service:
+ *
+ * <pre>
+ * &lt;service&gt; &lt;implementation&gt; [priority=&lt;priority&gt;] [type=&lt;converted type&gt;]
+ * </pre>
+ *
+ * The priority is the value of the {@link javax.annotation.Priority} of the implementation, and the converted type the
+ * binary name of the type of a {@link org.eclipse.microprofile.config.spi.Converter}, when it is a class. An
+ * implementation listed in more than one index is only loaded once, like with the {@link java.util.ServiceLoader}.
+ * <p>
+ *
+ * With the {@value #CHECK} system property set to {@code true}, the {@code META-INF/services} files of each service are
+ * also read, without loading the implementations, to log a warning for each implementation missing from the indexes,
+ * like in a jar compiled without the processor, or in a single jar that merged the {@code META-INF/services} files but
+ * not the indexes. The check is disabled by default, since it scans the {@code META-INF/services} files that the index
+ * replaces.
+ */
+final class ServiceIndex {
+    static final String INDEX = "META-INF/smallrye-config-services.idx";
+    static final String CHECK = "io.smallrye.config.service-index.check";
+
+    private final ClassLoader classLoader;
+    private final Map<String, List<Entry>> entries;
+    private final Set<String> checked;
+
+    private ServiceIndex(final ClassLoader classLoader, final Map<String, List<Entry>> entries, final boolean check) {
+        this.classLoader = classLoader;
+        this.entries = entries;
+        this.checked = check ? new HashSet<>() : null;
+    }
+
+    static ServiceIndex load(final ClassLoader classLoader) {
+        final Map<String, List<Entry>> entries = new HashMap<>();
+        final Set<String> implementations = new HashSet<>();
+        try {
+            final Enumeration<URL> indexes = classLoader.getResources(INDEX);
+            while (indexes.hasMoreElements()) {
+                final URL index = indexes.nextElement();
+                final URLConnection connection = index.openConnection();
+                connection.setUseCaches(false);
+                try (InputStream in = connection.getInputStream();
+                        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        final Entry entry = Entry.parse(line.trim(), index);
+                        if (entry != null && implementations.add(entry.service + " " + entry.implementation)) {
+                            entries.computeIfAbsent(entry.service, k -> new ArrayList<>()).add(entry);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw ConfigMessages.msg.failedToLoadResource(e);
+        }
+        return new ServiceIndex(classLoader, entries, Boolean.parseBoolean(AccessController
+                .doPrivileged((PrivilegedAction<String>) () -> System.getProperty(CHECK))));
+    }
+
+    List<Entry> getEntries(final Class<?> service) {
+        final List<Entry> serviceEntries = entries.getOrDefault(service.getName(), Collections.emptyList());
+        if (checked != null && checked.add(service.getName())) {
+            checkServices(service.getName(), serviceEntries);
+        }
+        return serviceEntries;
+    }
+
+    /**
+     * Logs a warning for each implementation of the {@code META-INF/services} files of the service which is not in an
+     * index.
+     */
+    private void checkServices(final String service, final List<Entry> serviceEntries) {
+        final Set<String> indexed = new HashSet<>();
+        for (Entry entry : serviceEntries) {
+            indexed.add(entry.implementation);
+        }
+
+        try {
+            final Enumeration<URL> services = classLoader.getResources("META-INF/services/" + service);
+            while (services.hasMoreElements()) {
+                final URL url = services.nextElement();
+                final URLConnection connection = url.openConnection();
+                connection.setUseCaches(false);
+                try (InputStream in = connection.getInputStream();
+                        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        final int comment = line.indexOf('#');
+                        final String implementation = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                        if (!implementation.isEmpty() && indexed.add(implementation)) {
+                            ConfigLogging.log.serviceNotIndexed(implementation, service, url.toString());
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw ConfigMessages.msg.failedToLoadResource(e);
+        }
+    }
+
+    /**
+     * Instantiates every implementation of the service, in the order of the index.
+     */
+    <S> List<S> load(final Class<S> service) {
+        final List<S> services = new ArrayList<>();
+        for (Entry entry : getEntries(service)) {
+            services.add(newInstance(service, entry));
+        }
+        return services;
+    }
+
+    <S> S newInstance(final Class<S> service, final Entry entry) {
+        try {
+            final Class<? extends S> implementation = Class.forName(entry.implementation, false, classLoader)
+                    .asSubclass(service);
+            return SecuritySupport.getDeclaredConstructor(implementation).newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            throw ConfigMessages.msg.failedToLoadIndexedService(e, entry.implementation, service.getName());
+        }
+    }
+
+    /**
+     * The converted type of a {@link org.eclipse.microprofile.config.spi.Converter} entry, or {@code null} if it is not
+     * in the index.
+     */
+    Type getType(final Entry entry) {
+        if (entry.type == null) {
+            return null;
+        }
+        try {
+            return Class.forName(entry.type, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw ConfigMessages.msg.failedToLoadIndexedService(e, entry.type, entry.implementation);
+        }
+    }
+
+    static final class Entry {
+        private final String service;
+        private final String implementation;
+        private final OptionalInt priority;
+        private final String type;
+
+        private Entry(final String service, final String implementation, final OptionalInt priority,
+                final String type) {
+            this.service = service;
+            this.implementation = implementation;
+            this.priority = priority;
+            this.type = type;
+        }
+
+        OptionalInt getPriority() {
+            return priority;
+        }
+
+        private static Entry parse(final String line, final URL index) {
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                return null;
+            }
+
+            final String[] fields = line.split("\\s+");
+            if (fields.length < 2) {
+                return null;
+            }
+            OptionalInt priority = OptionalInt.empty();
+            String type = null;
+            for (int i = 2; i < fields.length; i++) {
+                if (fields[i].startsWith("priority=")) {
+                    try {
+                        priority = OptionalInt.of(Integer.parseInt(fields[i].substring("priority=".length())));
+                    } catch (NumberFormatException e) {
+                        throw ConfigMessages.msg.malformedIndexedPriority(e, line, index.toString());
+                    }
+                } else if (fields[i].startsWith("type=")) {
+                    type = fields[i].substring("type=".length());
+                }
+            }
+            return new Entry(fields[0], fields[1], priority, type);
+        }
+    }
+}
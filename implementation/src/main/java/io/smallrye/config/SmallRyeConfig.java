@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -35,7 +36,9 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 
@@ -53,16 +56,51 @@ import io.smallrye.config.SmallRyeConfigBuilder.InterceptorWithPriority;
 public class SmallRyeConfig implements Config, Serializable {
     private static final long serialVersionUID = 8138651532357898263L;
 
-    private final ConfigSources configSources;
+    private volatile ConfigSources configSources;
     private final Map<Type, Converter<?>> converters;
-    private final Map<Type, Converter<Optional<?>>> optionalConverters = new ConcurrentHashMap<>();
+    private final Map<Type, Converter<Optional<?>>> optionalConverters;
 
     private final ConfigMappings mappings;
 
+    private final ConfigValueCache configValueCache;
+    private final Object reloadLock = new Object();
+    private final boolean snapshot;
+
     SmallRyeConfig(SmallRyeConfigBuilder builder, ConfigMappings mappings) {
-        this.configSources = new ConfigSources(buildConfigSources(builder), buildInterceptors(builder));
-        this.converters = buildConverters(builder);
+        final Object chainEvent;
+        try (ParallelSources parallelSources = builder.isParallelSources()
+                ? new ParallelSources(builder.getParallelSourcesExecutor(), builder.getClassLoader())
+                : null) {
+            final Object discoveryEvent = ConfigEvents.beginBuild();
+            final List<ConfigSource> sources = parallelSources != null
+                    ? buildParallelConfigSources(builder, parallelSources)
+                    : buildConfigSources(builder);
+            final List<InterceptorWithPriority> interceptors = buildInterceptors(builder);
+            this.converters = buildConverters(builder);
+            ConfigEvents.commitBuild(discoveryEvent, "discovery", sources.size(), interceptors.size());
+
+            chainEvent = ConfigEvents.beginBuild();
+            this.configSources = new ConfigSources(sources, interceptors, builder.isCompiledChain(),
+                    builder.isProfileIndex(), builder.isFrozenValues(), builder.isLookupStatistics(), parallelSources);
+        }
+        this.optionalConverters = new ConcurrentHashMap<>();
         this.mappings = mappings;
+        this.configValueCache = buildConfigValueCache(builder);
+        this.snapshot = false;
+        ConfigEvents.commitBuild(chainEvent, "chain", configSources.getSources().size(),
+                configSources.getInterceptors().size() - configSources.getSources().size());
+    }
+
+    /**
+     * A snapshot of a {@link SmallRyeConfig}, pinned to the current chain of the config.
+     */
+    private SmallRyeConfig(final SmallRyeConfig config) {
+        this.configSources = config.configSources;
+        this.converters = config.converters;
+        this.optionalConverters = config.optionalConverters;
+        this.mappings = config.mappings;
+        this.configValueCache = null;
+        this.snapshot = true;
     }
 
     private List<ConfigSource> buildConfigSources(final SmallRyeConfigBuilder builder) {
@@ -75,7 +113,45 @@ public class SmallRyeConfig implements Config, Serializable {
         }
         sourcesToBuild.add(new DefaultValuesConfigSource(builder.getDefaultValues()));
 
-        return sourcesToBuild;
+        return withoutRecordedDuplicates(sourcesToBuild);
+    }
+
+    private List<ConfigSource> buildParallelConfigSources(final SmallRyeConfigBuilder builder,
+            final ParallelSources parallelSources) {
+        parallelSources.add(builder.getSources());
+        if (builder.isAddDiscoveredSources()) {
+            builder.discoverSources(parallelSources);
+        }
+        if (builder.isAddDefaultSources()) {
+            parallelSources.submit(builder::getDefaultSources);
+        }
+        parallelSources.add(Collections.singletonList(new DefaultValuesConfigSource(builder.getDefaultValues())));
+
+        return withoutRecordedDuplicates(new ArrayList<>(parallelSources.join()));
+    }
+
+    /**
+     * Drops the sources of a {@link ConfigImage} that are also loaded, by the sources or the discovered sources of the
+     * builder, so a source is never added twice.
+     */
+    private static List<ConfigSource> withoutRecordedDuplicates(final List<ConfigSource> sources) {
+        boolean recorded = false;
+        for (ConfigSource source : sources) {
+            recorded |= source instanceof ConfigImage.ConfigImageConfigSource;
+        }
+        if (!recorded) {
+            return sources;
+        }
+
+        final Set<String> loaded = new HashSet<>();
+        for (ConfigSource source : sources) {
+            if (!(source instanceof ConfigImage.ConfigImageConfigSource)) {
+                loaded.add(source.getName());
+            }
+        }
+        sources.removeIf(source -> source instanceof ConfigImage.ConfigImageConfigSource
+                && loaded.contains(source.getName()));
+        return sources;
     }
 
     private List<InterceptorWithPriority> buildInterceptors(final SmallRyeConfigBuilder builder) {
@@ -93,7 +169,9 @@ public class SmallRyeConfig implements Config, Serializable {
     private Map<Type, Converter<?>> buildConverters(final SmallRyeConfigBuilder builder) {
         final Map<Type, SmallRyeConfigBuilder.ConverterWithPriority> convertersToBuild = new HashMap<>(builder.getConverters());
 
-        if (builder.isAddDiscoveredConverters()) {
+        if (builder.isAddDiscoveredConverters() && builder.isServiceIndex()) {
+            builder.discoverIndexedConverters(convertersToBuild);
+        } else if (builder.isAddDiscoveredConverters()) {
             for (Converter<?> converter : builder.discoverConverters()) {
                 Type type = Converters.getConverterType(converter.getClass());
                 if (type == null) {
@@ -112,6 +190,113 @@ public class SmallRyeConfig implements Config, Serializable {
         return converters;
     }
 
+    private ConfigValueCache buildConfigValueCache(final SmallRyeConfigBuilder builder) {
+        if (!builder.isValueCache()) {
+            return null;
+        }
+
+        ExpressionDependencyGraph dependencyGraph = null;
+        for (ConfigSourceInterceptorWithPriority interceptor : configSources.getInterceptors()) {
+            final ConfigSourceInterceptor configSourceInterceptor = interceptor.getInterceptor();
+            if (configSourceInterceptor instanceof ExpressionConfigSourceInterceptor) {
+                dependencyGraph = ((ExpressionConfigSourceInterceptor) configSourceInterceptor).recordDependencies();
+                break;
+            }
+        }
+
+        final ConfigValueCache configValueCache = new ConfigValueCache(configSources.getPropertyNames(),
+                dependencyGraph);
+        registerConfigValueCache(configSources.getSources(), configValueCache);
+        return configValueCache;
+    }
+
+    private static void registerConfigValueCache(final List<ConfigSource> configSources,
+            final ConfigValueCache configValueCache) {
+        for (ConfigSource configSource : configSources) {
+            if (configSource instanceof ConfigValueCacheAware) {
+                ((ConfigValueCacheAware) configSource).registerConfigValueCache(configValueCache);
+            }
+        }
+    }
+
+    /**
+     * Reloads the sources that implement {@link RefreshableConfigSource}. If a source returns a new version of its
+     * values, the interceptor chain is rebuilt with the refreshed sources, and replaces the current chain in a single
+     * volatile write. The {@link ConfigValueCache} and the frozen values are discarded with the previous chain.
+     * <p>
+     *
+     * Lookups never wait for a reload: a lookup started before the replacement completes with the previous chain,
+     * and a lookup started after uses the new chain. The interceptors and the sources that did not change are kept
+     * in the new chain, in the same order, and the late sources of a {@link ConfigurableConfigSource} are not
+     * discovered again. Concurrent reloads are executed one at a time.
+     *
+     * @return {@code true} if a source changed and the chain was replaced, {@code false} otherwise
+     */
+    @Experimental("Reload of configuration sources")
+    public boolean reload() {
+        if (snapshot) {
+            return false;
+        }
+
+        synchronized (reloadLock) {
+            final ConfigSources configSources = this.configSources.refresh();
+            if (configSources == null) {
+                return false;
+            }
+
+            final ConfigValueCache configValueCache = this.configValueCache;
+            if (configValueCache != null) {
+                // only the refreshed sources, the other sources already know the cache
+                final Set<ConfigSource> previousSources = Collections.newSetFromMap(new IdentityHashMap<>());
+                previousSources.addAll(this.configSources.getSources());
+                final List<ConfigSource> refreshedSources = new ArrayList<>();
+                for (ConfigSource configSource : configSources.getSources()) {
+                    if (!previousSources.contains(configSource)) {
+                        refreshedSources.add(configSource);
+                    }
+                }
+                registerConfigValueCache(refreshedSources, configValueCache);
+            }
+            this.configSources = configSources;
+            // after the replacement, so a value resolved with the previous chain is not cached
+            if (configValueCache != null) {
+                configValueCache.invalidate(configSources.getPropertyNames());
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Reloads the sources that implement {@link RefreshableConfigSource} with an {@link Executor}, so the sources are
+     * read and the chain is rebuilt outside the calling thread.
+     *
+     * @param executor the {@link Executor} to run the reload
+     * @return a {@link CompletableFuture} completed with the result of {@link SmallRyeConfig#reload()}
+     */
+    @Experimental("Reload of configuration sources")
+    public CompletableFuture<Boolean> reload(Executor executor) {
+        return CompletableFuture.supplyAsync(this::reload, executor);
+    }
+
+    /**
+     * Creates a view of this {@link SmallRyeConfig} pinned to the current chain of sources and interceptors. Every
+     * lookup in the snapshot uses the same chain, so multiple related names read from the snapshot always come from
+     * the same version of the sources, even if a {@link SmallRyeConfig#reload()} replaces the chain in the meantime.
+     * <p>
+     *
+     * A snapshot only keeps a reference to the chain, and shares the converters and the mappings of this config, so
+     * it is cheap to create, for instance once per request. It is immutable and can be shared between threads without
+     * locks. It does not use the {@link ConfigValueCache}, and a reload of the snapshot does nothing. Sources that
+     * change their values in place, like a {@link ConfigValueCacheAware} source, are not pinned. A snapshot does not
+     * need to be released: the previous chain is discarded when no snapshot references it anymore.
+     *
+     * @return a snapshot of this {@link SmallRyeConfig}
+     */
+    @Experimental("Reload of configuration sources")
+    public SmallRyeConfig snapshot() {
+        return snapshot ? this : new SmallRyeConfig(this);
+    }
+
     public <T> List<T> getValues(final String propertyName, final Class<T> propertyType) {
         return getValues(propertyName, propertyType, ArrayList::new);
     }
@@ -154,8 +339,13 @@ public class SmallRyeConfig implements Config, Serializable {
     }
 
     public List<Integer> getIndexedPropertiesIndexes(final String property) {
+        // with the value cache, only the names starting with the indexed property are retrieved from the sorted names
+        final Iterable<String> propertyNames = configValueCache != null
+                ? configSources.getPropertyNames().getNamesWithPrefix(property + "[")
+                : getPropertyNames();
+
         Set<Integer> indexes = new HashSet<>();
-        for (String propertyName : this.getPropertyNames()) {
+        for (String propertyName : propertyNames) {
             if (propertyName.startsWith(property) && propertyName.length() > property.length()) {
                 int index = property.length();
                 if (propertyName.charAt(index) == '[') {
@@ -188,7 +378,252 @@ public class SmallRyeConfig implements Config, Serializable {
 
     @SuppressWarnings("unchecked")
     public <T> T getValue(String name, Converter<T> converter) {
-        ConfigValue configValue = getConfigValue(name);
+        final ConfigValueCache configValueCache = lookupCache();
+        if (configValueCache != null) {
+            final Object cachedValue = configValueCache.getConverted(name, converter);
+            if (cachedValue != null) {
+                return (T) cachedValue;
+            }
+        }
+
+        return convertValue(name, getConfigValue(name), converter);
+    }
+
+    /**
+     * Get the value of a configuration property with a precompiled {@link ConfigKey}.
+     *
+     * @param key the property key (must not be {@code null})
+     * @param aClass the property type
+     * @param <T> the property type
+     * @return the converted value
+     * @see SmallRyeConfig#getValue(String, Class)
+     */
+    @Experimental("Precompiled configuration names")
+    public <T> T getValue(ConfigKey key, Class<T> aClass) {
+        return getValue(key, requireConverter(aClass));
+    }
+
+    /**
+     * Get the value of a configuration property with a precompiled {@link ConfigKey}.
+     *
+     * @param key the property key (must not be {@code null})
+     * @param converter the converter of the property value
+     * @param <T> the property type
+     * @return the converted value
+     * @see SmallRyeConfig#getValue(String, Converter)
+     */
+    @Experimental("Precompiled configuration names")
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(ConfigKey key, Converter<T> converter) {
+        final ConfigValueCache configValueCache = lookupCache();
+        if (configValueCache != null) {
+            final Object cachedValue = configValueCache.getConverted(key.getName(), converter);
+            if (cachedValue != null) {
+                return (T) cachedValue;
+            }
+        }
+
+        return convertValue(key.getName(), getConfigValue(key), converter);
+    }
+
+    /**
+     * Get the optional value of a configuration property with a precompiled {@link ConfigKey}.
+     *
+     * @param key the property key (must not be {@code null})
+     * @param aClass the property type
+     * @param <T> the property type
+     * @return the converted value, or an empty Optional if the property is not present
+     * @see SmallRyeConfig#getOptionalValue(String, Class)
+     */
+    @Experimental("Precompiled configuration names")
+    public <T> Optional<T> getOptionalValue(ConfigKey key, Class<T> aClass) {
+        return getValue(key, getOptionalConverter(aClass));
+    }
+
+    /**
+     * Get the value of a configuration property as a primitive {@code int}. With the built-in {@link Integer}
+     * converter, the value is converted with {@link IntConverter#convertInt(String)}, without boxing the result.
+     *
+     * @param name the property name (must not be {@code null})
+     * @return the converted value
+     * @throws NoSuchElementException if the property is not defined or has an empty value
+     * @throws IllegalArgumentException if the property value cannot be converted to an {@code int}
+     * @see SmallRyeConfig#getValue(String, Class)
+     */
+    @Experimental("Primitive configuration getters")
+    public int getInt(String name) {
+        final Converter<?> converter = converters.get(Integer.class);
+        if (converter instanceof IntConverter) {
+            final String value = getNonEmptyValue(name);
+            if (value == null) {
+                throw new NoSuchElementException(ConfigMessages.msg.propertyNotFound(name));
+            }
+            return ((IntConverter) converter).convertInt(value);
+        }
+        return getValue(name, Integer.class);
+    }
+
+    /**
+     * Get the value of a configuration property as a primitive {@code int}, or a default value if the property
+     * is not defined or has an empty value.
+     *
+     * @param name the property name (must not be {@code null})
+     * @param defaultValue the value to return if the property is not defined or has an empty value
+     * @return the converted value, or the default value
+     * @throws IllegalArgumentException if the property value cannot be converted to an {@code int}
+     * @see SmallRyeConfig#getInt(String)
+     */
+    @Experimental("Primitive configuration getters")
+    public int getInt(String name, int defaultValue) {
+        final Converter<?> converter = converters.get(Integer.class);
+        if (converter instanceof IntConverter) {
+            final String value = getNonEmptyValue(name);
+            return value != null ? ((IntConverter) converter).convertInt(value) : defaultValue;
+        }
+        return getOptionalValue(name, Integer.class).orElse(defaultValue);
+    }
+
+    /**
+     * Get the value of a configuration property as a primitive {@code long}. With the built-in {@link Long}
+     * converter, the value is converted with {@link LongConverter#convertLong(String)}, without boxing the result.
+     *
+     * @param name the property name (must not be {@code null})
+     * @return the converted value
+     * @throws NoSuchElementException if the property is not defined or has an empty value
+     * @throws IllegalArgumentException if the property value cannot be converted to a {@code long}
+     * @see SmallRyeConfig#getValue(String, Class)
+     */
+    @Experimental("Primitive configuration getters")
+    public long getLong(String name) {
+        final Converter<?> converter = converters.get(Long.class);
+        if (converter instanceof LongConverter) {
+            final String value = getNonEmptyValue(name);
+            if (value == null) {
+                throw new NoSuchElementException(ConfigMessages.msg.propertyNotFound(name));
+            }
+            return ((LongConverter) converter).convertLong(value);
+        }
+        return getValue(name, Long.class);
+    }
+
+    /**
+     * Get the value of a configuration property as a primitive {@code long}, or a default value if the property
+     * is not defined or has an empty value.
+     *
+     * @param name the property name (must not be {@code null})
+     * @param defaultValue the value to return if the property is not defined or has an empty value
+     * @return the converted value, or the default value
+     * @throws IllegalArgumentException if the property value cannot be converted to a {@code long}
+     * @see SmallRyeConfig#getLong(String)
+     */
+    @Experimental("Primitive configuration getters")
+    public long getLong(String name, long defaultValue) {
+        final Converter<?> converter = converters.get(Long.class);
+        if (converter instanceof LongConverter) {
+            final String value = getNonEmptyValue(name);
+            return value != null ? ((LongConverter) converter).convertLong(value) : defaultValue;
+        }
+        return getOptionalValue(name, Long.class).orElse(defaultValue);
+    }
+
+    /**
+     * Get the value of a configuration property as a primitive {@code double}. With the built-in {@link Double}
+     * converter, the value is converted with {@link DoubleConverter#convertDouble(String)}, without boxing the result.
+     *
+     * @param name the property name (must not be {@code null})
+     * @return the converted value
+     * @throws NoSuchElementException if the property is not defined or has an empty value
+     * @throws IllegalArgumentException if the property value cannot be converted to a {@code double}
+     * @see SmallRyeConfig#getValue(String, Class)
+     */
+    @Experimental("Primitive configuration getters")
+    public double getDouble(String name) {
+        final Converter<?> converter = converters.get(Double.class);
+        if (converter instanceof DoubleConverter) {
+            final String value = getNonEmptyValue(name);
+            if (value == null) {
+                throw new NoSuchElementException(ConfigMessages.msg.propertyNotFound(name));
+            }
+            return ((DoubleConverter) converter).convertDouble(value);
+        }
+        return getValue(name, Double.class);
+    }
+
+    /**
+     * Get the value of a configuration property as a primitive {@code double}, or a default value if the property
+     * is not defined or has an empty value.
+     *
+     * @param name the property name (must not be {@code null})
+     * @param defaultValue the value to return if the property is not defined or has an empty value
+     * @return the converted value, or the default value
+     * @throws IllegalArgumentException if the property value cannot be converted to a {@code double}
+     * @see SmallRyeConfig#getDouble(String)
+     */
+    @Experimental("Primitive configuration getters")
+    public double getDouble(String name, double defaultValue) {
+        final Converter<?> converter = converters.get(Double.class);
+        if (converter instanceof DoubleConverter) {
+            final String value = getNonEmptyValue(name);
+            return value != null ? ((DoubleConverter) converter).convertDouble(value) : defaultValue;
+        }
+        return getOptionalValue(name, Double.class).orElse(defaultValue);
+    }
+
+    /**
+     * Get the value of a configuration property as a primitive {@code boolean}. With the built-in {@link Boolean}
+     * converter, the value is converted with {@link BooleanConverter#convertBoolean(String)}, without boxing the
+     * result.
+     *
+     * @param name the property name (must not be {@code null})
+     * @return the converted value
+     * @throws NoSuchElementException if the property is not defined or has an empty value
+     * @throws IllegalArgumentException if the property value cannot be converted to a {@code boolean}
+     * @see SmallRyeConfig#getValue(String, Class)
+     */
+    @Experimental("Primitive configuration getters")
+    public boolean getBoolean(String name) {
+        final Converter<?> converter = converters.get(Boolean.class);
+        if (converter instanceof BooleanConverter) {
+            final String value = getNonEmptyValue(name);
+            if (value == null) {
+                throw new NoSuchElementException(ConfigMessages.msg.propertyNotFound(name));
+            }
+            return ((BooleanConverter) converter).convertBoolean(value);
+        }
+        return getValue(name, Boolean.class);
+    }
+
+    /**
+     * Get the value of a configuration property as a primitive {@code boolean}, or a default value if the property
+     * is not defined or has an empty value.
+     *
+     * @param name the property name (must not be {@code null})
+     * @param defaultValue the value to return if the property is not defined or has an empty value
+     * @return the converted value, or the default value
+     * @throws IllegalArgumentException if the property value cannot be converted to a {@code boolean}
+     * @see SmallRyeConfig#getBoolean(String)
+     */
+    @Experimental("Primitive configuration getters")
+    public boolean getBoolean(String name, boolean defaultValue) {
+        final Converter<?> converter = converters.get(Boolean.class);
+        if (converter instanceof BooleanConverter) {
+            final String value = getNonEmptyValue(name);
+            return value != null ? ((BooleanConverter) converter).convertBoolean(value) : defaultValue;
+        }
+        return getOptionalValue(name, Boolean.class).orElse(defaultValue);
+    }
+
+    /**
+     * The raw value of a property, or {@code null} if the property is not defined or the value has only whitespace,
+     * which the built-in converters consider as an empty value.
+     */
+    private String getNonEmptyValue(String name) {
+        final String value = getConfigValue(name).getValue();
+        return value == null || Converters.isBlank(value) ? null : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T convertValue(final String name, final ConfigValue configValue, final Converter<T> converter) {
         if (ConfigValueConverter.CONFIG_VALUE_CONVERTER.equals(converter)) {
             return (T) configValue;
         }
@@ -214,6 +649,10 @@ public class SmallRyeConfig implements Config, Serializable {
         if (converted == null) {
             throw new NoSuchElementException(ConfigMessages.msg.propertyNotFound(name));
         }
+        final ConfigValueCache configValueCache = lookupCache();
+        if (configValueCache != null) {
+            configValueCache.putConverted(name, configValue, converter, converted);
+        }
         return converted;
     }
 
@@ -231,8 +670,155 @@ public class SmallRyeConfig implements Config, Serializable {
 
     @Experimental("Extension to the original ConfigSource to allow retrieval of additional metadata on config lookup")
     public ConfigValue getConfigValue(String name) {
+        final Object event = ConfigEvents.beginLookup();
+        final ConfigValueCache configValueCache = lookupCache();
+        // the version is read before the sources, so a value resolved with the sources replaced by a reload is
+        // older than the invalidation of the reload and never stored
+        final long version = configValueCache != null ? configValueCache.getVersion() : 0;
+        // a reload may replace the sources, so the whole lookup uses the same chain
+        final ConfigSources configSources = this.configSources;
+        final FrozenConfigValues frozenValues = configSources.getFrozenValues();
+        // the frozen values are expanded, so a lookup without expansion resolves the raw value with the chain
+        if (frozenValues != null && Expressions.isEnabled()) {
+            final ConfigValue frozenValue = frozenValues.get(name);
+            if (frozenValue != null) {
+                return ConfigEvents.commitLookup(event, frozenValue, true);
+            }
+        }
+
+        if (configValueCache == null) {
+            return ConfigEvents.commitLookup(event, resolveConfigValue(configSources, name), false);
+        }
+
+        final ConfigValue cachedValue = configValueCache.get(name);
+        if (cachedValue != null) {
+            return ConfigEvents.commitLookup(event, cachedValue, true);
+        }
+
+        final ConfigValue configValue = resolveConfigValue(configSources, name);
+        configValueCache.put(name, configValue, version);
+        return ConfigEvents.commitLookup(event, configValue, false);
+    }
+
+    /**
+     * Get the {@link ConfigValue} of multiple configuration properties. The names are resolved together, with a single
+     * pass of the interceptor chain, and a single lookup in each {@link ConfigValueConfigSource} that implements
+     * {@link ConfigValueConfigSource#getConfigValues(Collection)}. Interceptors that do not support multiple names
+     * resolve each name separately.
+     *
+     * @param names the property names (must not be {@code null})
+     * @return a Map with the {@link ConfigValue} of each name. Like {@link SmallRyeConfig#getConfigValue(String)}, a
+     *         name without a value is mapped to a {@link ConfigValue} with a {@code null} value.
+     */
+    @Experimental("Extension to the original ConfigSource to allow retrieval of additional metadata on config lookup")
+    public Map<String, ConfigValue> getConfigValues(Collection<String> names) {
+        final Map<String, ConfigValue> values = new HashMap<>();
+        final ConfigValueCache configValueCache = lookupCache();
+        Collection<String> lookup = names;
+        long version = 0;
+        if (configValueCache != null) {
+            lookup = new ArrayList<>();
+            for (String name : names) {
+                final ConfigValue cachedValue = configValueCache.get(name);
+                if (cachedValue != null) {
+                    values.put(name, cachedValue);
+                } else {
+                    lookup.add(name);
+                }
+            }
+            version = configValueCache.getVersion();
+        }
+
+        if (!lookup.isEmpty()) {
+            // read after the version, like in getConfigValue(String)
+            final ConfigSources configSources = this.configSources;
+            final Map<String, ConfigValue> resolved = configSources.getInterceptorChain().proceed(lookup);
+            for (String name : lookup) {
+                ConfigValue configValue = resolved.get(name);
+                if (configValue == null) {
+                    configValue = ConfigValue.builder().withName(name).build();
+                }
+                values.put(name, configValue);
+                if (configValueCache != null) {
+                    configValueCache.put(name, configValue, version);
+                }
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Creates a precompiled {@link ConfigKey} of a configuration name, to use in the lookup methods that accept a
+     * {@link ConfigKey}. A key is intended to be created once, and used for every lookup of the name.
+     *
+     * @param name the property name (must not be {@code null})
+     * @return the {@link ConfigKey} of the name
+     */
+    @Experimental("Precompiled configuration names")
+    public ConfigKey key(String name) {
+        return new ConfigKey(name);
+    }
+
+    /**
+     * Get the {@link ConfigValue} of a configuration property with a precompiled {@link ConfigKey}.
+     *
+     * @param key the property key (must not be {@code null})
+     * @return the {@link ConfigValue}
+     * @see SmallRyeConfig#getConfigValue(String)
+     */
+    @Experimental("Precompiled configuration names")
+    public ConfigValue getConfigValue(ConfigKey key) {
+        final Object event = ConfigEvents.beginLookup();
+        final String name = key.getName();
+        final ConfigValueCache configValueCache = lookupCache();
+        // the version is read before the sources, so a value resolved with the sources replaced by a reload is
+        // older than the invalidation of the reload and never stored
+        final long version = configValueCache != null ? configValueCache.getVersion() : 0;
+        // a reload may replace the sources, so the whole lookup uses the same chain
+        final ConfigSources configSources = this.configSources;
+        final FrozenConfigValues frozenValues = configSources.getFrozenValues();
+        if (frozenValues != null && Expressions.isEnabled()) {
+            final ConfigValue frozenValue = frozenValues.get(name);
+            if (frozenValue != null) {
+                return ConfigEvents.commitLookup(event, frozenValue, true);
+            }
+        }
+
+        if (configValueCache == null) {
+            return ConfigEvents.commitLookup(event, resolveConfigValue(configSources, key), false);
+        }
+
+        final ConfigValue cachedValue = configValueCache.get(name);
+        if (cachedValue != null) {
+            return ConfigEvents.commitLookup(event, cachedValue, true);
+        }
+
+        final ConfigValue configValue = resolveConfigValue(configSources, key);
+        configValueCache.put(name, configValue, version);
+        return ConfigEvents.commitLookup(event, configValue, false);
+    }
+
+    /**
+     * Get the <em>raw value</em> of a configuration property with a precompiled {@link ConfigKey}.
+     *
+     * @param key the property key (must not be {@code null})
+     * @return the raw value, or {@code null} if no property value was discovered for the given property key
+     * @see SmallRyeConfig#getRawValue(String)
+     */
+    @Experimental("Precompiled configuration names")
+    public String getRawValue(ConfigKey key) {
+        return getConfigValue(key).getValue();
+    }
+
+    private static ConfigValue resolveConfigValue(ConfigSources configSources, ConfigKey key) {
+        final ConfigValue configValue = configSources.getInterceptorChain().proceed(key);
+        return configValue != null ? configValue : new ConfigValue(key.getName(), null, null, null, 0, -1);
+    }
+
+    private static ConfigValue resolveConfigValue(ConfigSources configSources, String name) {
         final ConfigValue configValue = configSources.getInterceptorChain().proceed(name);
-        return configValue != null ? configValue : ConfigValue.builder().withName(name).build();
+        return configValue != null ? configValue : new ConfigValue(name, null, null, null, 0, -1);
     }
 
     /**
@@ -309,8 +895,22 @@ public class SmallRyeConfig implements Config, Serializable {
         return mappings.getConfigMapping(type, prefix);
     }
 
+    /**
+     * The {@link ConfigValueCache} only holds values resolved with the secret keys locked and the expressions
+     * expanded. A lookup in {@link SecretKeys#doUnlocked(Runnable)} or {@link Expressions#withoutExpansion(Runnable)}
+     * neither reads nor stores cached values, so a secret or an unexpanded value is never served to other callers.
+     */
+    private ConfigValueCache lookupCache() {
+        final ConfigValueCache configValueCache = this.configValueCache;
+        return configValueCache != null && SecretKeys.isLocked() && Expressions.isEnabled() ? configValueCache : null;
+    }
+
     @Override
     public Iterable<String> getPropertyNames() {
+        if (configValueCache != null) {
+            return configSources.getPropertyNames().get();
+        }
+
         final HashSet<String> names = new HashSet<>();
         final Iterator<String> namesIterator = configSources.getInterceptorChain().iterateNames();
         while (namesIterator.hasNext()) {
@@ -319,6 +919,20 @@ public class SmallRyeConfig implements Config, Serializable {
         return names;
     }
 
+    /**
+     * @param name the property name
+     * @return {@code true} if the name is one of the secret keys of the configuration
+     */
+    boolean isSecretKey(final String name) {
+        for (ConfigSourceInterceptorWithPriority interceptor : configSources.getInterceptors()) {
+            if (interceptor.getInterceptor() instanceof SecretKeysConfigSourceInterceptor
+                    && ((SecretKeysConfigSourceInterceptor) interceptor.getInterceptor()).isSecret(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public Iterable<ConfigSource> getConfigSources() {
         return configSources.getSources();
@@ -377,6 +991,29 @@ public class SmallRyeConfig implements Config, Serializable {
         throw ConfigMessages.msg.getTypeNotSupportedForUnwrapping(type);
     }
 
+    /**
+     * Returns the {@link ConfigValueCache} of this {@link SmallRyeConfig}, to invalidate cached values and retrieve
+     * the cache statistics.
+     *
+     * @return the {@link ConfigValueCache}, or an empty {@link Optional} if the cache was not enabled with
+     *         {@link SmallRyeConfigBuilder#withValueCache(boolean)}
+     */
+    @Experimental("Cache of resolved configuration values")
+    public Optional<ConfigValueCache> getConfigValueCache() {
+        return Optional.ofNullable(configValueCache);
+    }
+
+    /**
+     * Returns the {@link LookupStatistics} of each interceptor and source of the chain of this {@link SmallRyeConfig}.
+     *
+     * @return the {@link LookupStatistics}, or an empty {@link Optional} if the statistics were not enabled with
+     *         {@link SmallRyeConfigBuilder#withLookupStatistics(boolean)}
+     */
+    @Experimental("Lookup statistics")
+    public Optional<LookupStatistics> getLookupStatistics() {
+        return Optional.ofNullable(configSources.getLookupStatistics());
+    }
+
     @Experimental("To retrive active profiles")
     public List<String> getProfiles() {
         return configSources.getProfiles();
@@ -388,6 +1025,12 @@ public class SmallRyeConfig implements Config, Serializable {
         private final List<ConfigSource> sources;
         private final List<ConfigSourceInterceptorWithPriority> interceptors;
         private final ConfigSourceInterceptorContext interceptorChain;
+        private final FrozenConfigValues frozenValues;
+        private final PropertyNamesIndex propertyNames;
+        private final LookupStatistics lookupStatistics;
+        private final LookupStatistics.Statistics[] interceptorStatistics;
+        private final boolean compiled;
+        private final boolean profileIndex;
 
         /**
          * Builds a representation of Config Sources, Interceptors and the Interceptor chain to be used in Config. Note
@@ -399,8 +1042,17 @@ public class SmallRyeConfig implements Config, Serializable {
          *
          * @param sources the Config Sources to be part of Config.
          * @param interceptors the Interceptors to be part of Config.
+         * @param compiled {@code true} to compile the final chain in a {@link CompiledConfigSourceInterceptorContext}.
+         * @param profileIndex {@code true} to replace the profile interceptor with a
+         *        {@link ProfileIndexConfigSourceInterceptor}.
+         * @param frozen {@code true} to freeze the values of the chain in {@link FrozenConfigValues}.
+         * @param statistics {@code true} to record the {@link LookupStatistics} of each interceptor and source.
+         * @param parallelSources the {@link ParallelSources} to initialize the independent late sources concurrently,
+         *        or {@code null} to initialize every late source in sequence.
          */
-        ConfigSources(final List<ConfigSource> sources, final List<InterceptorWithPriority> interceptors) {
+        ConfigSources(final List<ConfigSource> sources, final List<InterceptorWithPriority> interceptors,
+                final boolean compiled, final boolean profileIndex, final boolean frozen, final boolean statistics,
+                final ParallelSources parallelSources) {
             final List<ConfigSourceInterceptorWithPriority> sortInterceptors = new ArrayList<>();
             // Add all sources except for ConfigurableConfigSource types. These are initialized later
             // Sources are converted to the interceptor API
@@ -416,7 +1068,7 @@ public class SmallRyeConfig implements Config, Serializable {
             }
 
             // Init all late sources. Late sources are converted to the interceptor API and sorted again
-            sortInterceptors.addAll(mapLateSources(current, sources, getProfiles(sortInterceptors)));
+            sortInterceptors.addAll(mapLateSources(current, sources, getProfiles(sortInterceptors), parallelSources));
             sortInterceptors.sort(null);
 
             // Rebuild the chain with the late sources and collect new instances of the interceptors
@@ -430,9 +1082,212 @@ public class SmallRyeConfig implements Config, Serializable {
                 initInterceptors.add(initInterceptor);
             }
 
-            this.interceptorChain = current;
+            if (statistics) {
+                instrumentSources(initInterceptors);
+            }
+            final boolean indexed = profileIndex && indexProfiles(initInterceptors);
+            this.interceptorStatistics = statistics ? interceptorStatistics(initInterceptors, null) : null;
+            final List<ConfigSourceInterceptor> chain = chainInterceptors(initInterceptors, interceptorStatistics);
+
+            if (compiled) {
+                this.interceptorChain = compile(chain);
+            } else {
+                this.interceptorChain = statistics || indexed ? chain(chain) : current;
+            }
+            this.sources = Collections.unmodifiableList(getSources(initInterceptors));
+            this.interceptors = Collections.unmodifiableList(initInterceptors);
+            this.frozenValues = frozen ? FrozenConfigValues.of(interceptorChain) : null;
+            this.propertyNames = new PropertyNamesIndex(interceptorChain, this.sources);
+            this.lookupStatistics = statistics ? lookupStatistics(initInterceptors, interceptorStatistics) : null;
+            this.compiled = compiled;
+            this.profileIndex = profileIndex;
+        }
+
+        /**
+         * Builds the chain of interceptors already initialized, in the order of the list.
+         */
+        private ConfigSources(final List<ConfigSourceInterceptorWithPriority> initInterceptors, final boolean compiled,
+                final boolean profileIndex, final boolean frozen,
+                final LookupStatistics.Statistics[] previousStatistics) {
+            if (previousStatistics != null) {
+                instrumentSources(initInterceptors);
+            }
+            if (profileIndex) {
+                indexProfiles(initInterceptors);
+            }
+            this.interceptorStatistics = previousStatistics != null
+                    ? interceptorStatistics(initInterceptors, previousStatistics)
+                    : null;
+            final List<ConfigSourceInterceptor> chain = chainInterceptors(initInterceptors, interceptorStatistics);
+
+            this.interceptorChain = compiled ? compile(chain) : chain(chain);
             this.sources = Collections.unmodifiableList(getSources(initInterceptors));
             this.interceptors = Collections.unmodifiableList(initInterceptors);
+            this.frozenValues = frozen ? FrozenConfigValues.of(interceptorChain) : null;
+            this.propertyNames = new PropertyNamesIndex(interceptorChain, this.sources);
+            this.lookupStatistics = previousStatistics != null
+                    ? lookupStatistics(initInterceptors, interceptorStatistics)
+                    : null;
+            this.compiled = compiled;
+            this.profileIndex = profileIndex;
+        }
+
+        /**
+         * Refreshes the sources that implement {@link RefreshableConfigSource}, and builds a new chain with the
+         * refreshed sources in place of the previous ones.
+         *
+         * @return the {@link ConfigSources} with the refreshed sources, or {@code null} if no source changed
+         */
+        ConfigSources refresh() {
+            boolean changed = false;
+            final List<ConfigSourceInterceptorWithPriority> refreshed = new ArrayList<>(interceptors.size());
+            for (ConfigSourceInterceptorWithPriority interceptor : interceptors) {
+                final ConfigSourceInterceptorWithPriority refreshedInterceptor = refresh(interceptor);
+                changed |= refreshedInterceptor != interceptor;
+                refreshed.add(refreshedInterceptor);
+            }
+            return changed
+                    ? new ConfigSources(refreshed, compiled, profileIndex, frozenValues != null, interceptorStatistics)
+                    : null;
+        }
+
+        private static ConfigSourceInterceptorWithPriority refresh(
+                final ConfigSourceInterceptorWithPriority interceptor) {
+            if (!(interceptor.getInterceptor() instanceof SmallRyeConfigSourceInterceptor)) {
+                return interceptor;
+            }
+
+            final SmallRyeConfigSourceInterceptor sourceInterceptor = (SmallRyeConfigSourceInterceptor) interceptor
+                    .getInterceptor();
+            final ConfigSource source = sourceInterceptor.getSource();
+            if (!(source instanceof RefreshableConfigSource)) {
+                return interceptor;
+            }
+
+            final ConfigSource refreshedSource = ((RefreshableConfigSource) source).refresh();
+            if (refreshedSource == source) {
+                return interceptor;
+            }
+
+            SmallRyeConfigSourceInterceptor refreshedInterceptor = configSourceInterceptor(refreshedSource);
+            // the refreshed source continues the statistics of the previous source
+            final LookupStatistics.Statistics statistics = sourceInterceptor.getStatistics();
+            if (statistics != null) {
+                refreshedInterceptor = refreshedInterceptor.withStatistics(statistics);
+            }
+            return interceptor.withInterceptor(refreshedInterceptor);
+        }
+
+        private static SmallRyeConfigSourceInterceptorContext chain(final List<ConfigSourceInterceptor> interceptors) {
+            SmallRyeConfigSourceInterceptorContext current = new SmallRyeConfigSourceInterceptorContext(EMPTY, null);
+            for (ConfigSourceInterceptor interceptor : interceptors) {
+                current = new SmallRyeConfigSourceInterceptorContext(interceptor, current);
+            }
+            return current;
+        }
+
+        /**
+         * Records the {@link LookupStatistics} of each source, in the {@link ConfigValueConfigSource} of the source,
+         * so the statistics also include the lookups of the sources made directly by other interceptors, like the
+         * {@link ProfileIndexConfigSourceInterceptor}, or by a compiled chain.
+         */
+        private static void instrumentSources(final List<ConfigSourceInterceptorWithPriority> interceptors) {
+            for (int i = 0; i < interceptors.size(); i++) {
+                if (interceptors.get(i).getInterceptor() instanceof SmallRyeConfigSourceInterceptor) {
+                    final SmallRyeConfigSourceInterceptor source = (SmallRyeConfigSourceInterceptor) interceptors.get(i)
+                            .getInterceptor();
+                    if (source.getStatistics() == null) {
+                        interceptors.set(i, interceptors.get(i).withInterceptor(
+                                source.withStatistics(new LookupStatistics.Statistics(source.getSource().getName()))));
+                    }
+                }
+            }
+        }
+
+        /**
+         * The {@link LookupStatistics.Statistics} of each interceptor that is not a source, at the position of the
+         * interceptor in the list. An interceptor at the same position of a previous chain continues its statistics.
+         */
+        private static LookupStatistics.Statistics[] interceptorStatistics(
+                final List<ConfigSourceInterceptorWithPriority> interceptors,
+                final LookupStatistics.Statistics[] previousStatistics) {
+            final LookupStatistics.Statistics[] statistics = new LookupStatistics.Statistics[interceptors.size()];
+            for (int i = 0; i < interceptors.size(); i++) {
+                final ConfigSourceInterceptor interceptor = interceptors.get(i).getInterceptor();
+                if (!(interceptor instanceof SmallRyeConfigSourceInterceptor)) {
+                    statistics[i] = previousStatistics != null && previousStatistics[i] != null ? previousStatistics[i]
+                            : new LookupStatistics.Statistics(interceptor.getClass().getName());
+                }
+            }
+            return statistics;
+        }
+
+        private static List<ConfigSourceInterceptor> chainInterceptors(
+                final List<ConfigSourceInterceptorWithPriority> interceptors,
+                final LookupStatistics.Statistics[] statistics) {
+            final List<ConfigSourceInterceptor> chain = new ArrayList<>(interceptors.size());
+            for (int i = 0; i < interceptors.size(); i++) {
+                final ConfigSourceInterceptor interceptor = interceptors.get(i).getInterceptor();
+                chain.add(statistics != null && statistics[i] != null
+                        ? new StatisticsConfigSourceInterceptor(interceptor, statistics[i])
+                        : interceptor);
+            }
+            return chain;
+        }
+
+        private static LookupStatistics lookupStatistics(final List<ConfigSourceInterceptorWithPriority> interceptors,
+                final LookupStatistics.Statistics[] statistics) {
+            final List<LookupStatistics.Statistics> interceptorStatistics = new ArrayList<>();
+            final List<LookupStatistics.Statistics> sourceStatistics = new ArrayList<>();
+            // the chain executes from the highest priority to the lowest
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                final ConfigSourceInterceptor interceptor = interceptors.get(i).getInterceptor();
+                if (interceptor instanceof SmallRyeConfigSourceInterceptor) {
+                    sourceStatistics.add(((SmallRyeConfigSourceInterceptor) interceptor).getStatistics());
+                } else {
+                    interceptorStatistics.add(statistics[i]);
+                }
+            }
+            return new LookupStatistics(interceptorStatistics, sourceStatistics);
+        }
+
+        /**
+         * Replaces the {@link ProfileConfigSourceInterceptor} with a {@link ProfileIndexConfigSourceInterceptor} of the
+         * sources with a lower priority, which are the sources queried by the profile interceptor.
+         *
+         * @return {@code true} if the profile interceptor was replaced
+         */
+        private static boolean indexProfiles(final List<ConfigSourceInterceptorWithPriority> interceptors) {
+            for (int i = 0; i < interceptors.size(); i++) {
+                final ConfigSourceInterceptor interceptor = interceptors.get(i).getInterceptor();
+                // only the exact class, because subclasses may override the lookup, or a previous index of the sources
+                if (interceptor.getClass() == ProfileConfigSourceInterceptor.class
+                        || interceptor instanceof ProfileIndexConfigSourceInterceptor) {
+                    final String[] profiles = ((ProfileConfigSourceInterceptor) interceptor).getProfiles();
+                    if (profiles.length == 0) {
+                        return false;
+                    }
+
+                    // the chain executes from the highest priority to the lowest
+                    final List<SmallRyeConfigSourceInterceptor> sources = new ArrayList<>();
+                    for (int j = i - 1; j >= 0; j--) {
+                        if (interceptors.get(j).getInterceptor() instanceof SmallRyeConfigSourceInterceptor) {
+                            sources.add((SmallRyeConfigSourceInterceptor) interceptors.get(j).getInterceptor());
+                        }
+                    }
+                    interceptors.set(i, interceptors.get(i)
+                            .withInterceptor(new ProfileIndexConfigSourceInterceptor(profiles, sources)));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static ConfigSourceInterceptorContext compile(final List<ConfigSourceInterceptor> interceptors) {
+            final List<ConfigSourceInterceptor> chain = new ArrayList<>(interceptors);
+            // the chain executes from the highest priority to the lowest
+            Collections.reverse(chain);
+            return CompiledConfigSourceInterceptorContext.compile(chain);
         }
 
         private static List<ConfigSourceInterceptorWithPriority> mapSources(final List<ConfigSource> sources) {
@@ -464,10 +1319,16 @@ public class SmallRyeConfig implements Config, Serializable {
             return Collections.emptyList();
         }
 
+        /**
+         * Initializes the late sources in ordinal order, against the init chain. If {@code parallelSources} is not
+         * {@code null}, the sources of independent factories are initialized concurrently, and the sources of the
+         * other factories in sequence in the current thread. The initialized sources are merged in ordinal order.
+         */
         private static List<ConfigSourceInterceptorWithPriority> mapLateSources(
                 final SmallRyeConfigSourceInterceptorContext initChain,
                 final List<ConfigSource> sources,
-                final List<String> profiles) {
+                final List<String> profiles,
+                final ParallelSources parallelSources) {
 
             final List<ConfigurableConfigSource> lateSources = new ArrayList<>();
             for (ConfigSource source : sources) {
@@ -477,32 +1338,46 @@ public class SmallRyeConfig implements Config, Serializable {
             }
             lateSources.sort(Comparator.comparingInt(ConfigurableConfigSource::getOrdinal));
 
-            ConfigSourceInterceptorWithPriority.raiseLoadPriority();
-            final List<ConfigSourceInterceptorWithPriority> sourcesWithPriority = new ArrayList<>();
-            for (ConfigurableConfigSource configurableSource : lateSources) {
-                final List<ConfigSource> configSources = configurableSource.getConfigSources(new ConfigSourceContext() {
-                    @Override
-                    public ConfigValue getValue(final String name) {
-                        ConfigValue value = initChain.proceed(name);
-                        return value != null ? value : ConfigValue.builder().withName(name).build();
-                    }
+            final ConfigSourceContext context = new ConfigSourceContext() {
+                @Override
+                public ConfigValue getValue(final String name) {
+                    ConfigValue value = initChain.proceed(name);
+                    return value != null ? value : ConfigValue.builder().withName(name).build();
+                }
 
-                    @Override
-                    public List<String> getProfiles() {
-                        return profiles;
-                    }
+                @Override
+                public List<String> getProfiles() {
+                    return profiles;
+                }
 
-                    @Override
-                    public Iterator<String> iterateNames() {
-                        return initChain.iterateNames();
+                @Override
+                public Iterator<String> iterateNames() {
+                    return initChain.iterateNames();
+                }
+            };
+
+            final List<ConfigSource> configSources;
+            if (parallelSources != null) {
+                for (ConfigurableConfigSource configurableSource : lateSources) {
+                    if (configurableSource.isIndependent()) {
+                        parallelSources.submit(() -> configurableSource.getConfigSources(context));
+                    } else {
+                        parallelSources.run(() -> configurableSource.getConfigSources(context));
                     }
-                });
-
-                for (ConfigSource configSource : configSources) {
-                    sourcesWithPriority.add(new ConfigSourceInterceptorWithPriority(configSource));
+                }
+                configSources = parallelSources.join();
+            } else {
+                configSources = new ArrayList<>();
+                for (ConfigurableConfigSource configurableSource : lateSources) {
+                    configSources.addAll(configurableSource.getConfigSources(context));
                 }
             }
 
+            ConfigSourceInterceptorWithPriority.raiseLoadPriority();
+            final List<ConfigSourceInterceptorWithPriority> sourcesWithPriority = new ArrayList<>();
+            for (ConfigSource configSource : configSources) {
+                sourcesWithPriority.add(new ConfigSourceInterceptorWithPriority(configSource));
+            }
             return sourcesWithPriority;
         }
 
@@ -529,6 +1404,18 @@ public class SmallRyeConfig implements Config, Serializable {
             return interceptorChain;
         }
 
+        FrozenConfigValues getFrozenValues() {
+            return frozenValues;
+        }
+
+        PropertyNamesIndex getPropertyNames() {
+            return propertyNames;
+        }
+
+        LookupStatistics getLookupStatistics() {
+            return lookupStatistics;
+        }
+
         List<String> getProfiles() {
             for (final ConfigSourceInterceptorWithPriority interceptor : getInterceptors()) {
                 if (interceptor.getInterceptor() instanceof ProfileConfigSourceInterceptor) {
@@ -589,6 +1476,10 @@ public class SmallRyeConfig implements Config, Serializable {
             return new ConfigSourceInterceptorWithPriority(this.getInterceptor(context), this.priority, this.name);
         }
 
+        ConfigSourceInterceptorWithPriority withInterceptor(final ConfigSourceInterceptor interceptor) {
+            return new ConfigSourceInterceptorWithPriority(interceptor, this.priority, this.name);
+        }
+
         private static int loadPrioritySequence = 0;
         private static int loadPrioritySequenceNumber = 1;
 
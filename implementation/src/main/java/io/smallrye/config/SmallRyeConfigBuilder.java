@@ -19,16 +19,19 @@ package io.smallrye.config;
 import static io.smallrye.config.PropertiesConfigSourceProvider.classPathSources;
 
 import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalInt;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -47,6 +50,8 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     public static final String META_INF_MICROPROFILE_CONFIG_PROPERTIES = "META-INF/microprofile-config.properties";
     public static final String WEB_INF_MICROPROFILE_CONFIG_PROPERTIES = "WEB-INF/classes/META-INF/microprofile-config.properties";
 
+    private static final int DEFAULT_CONVERTER_PRIORITY = 100;
+
     // sources are not sorted by their ordinals
     private final List<ConfigSource> sources = new ArrayList<>();
     private final Map<Type, ConverterWithPriority> converters = new HashMap<>();
@@ -61,6 +66,17 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     private boolean addDiscoveredSources = false;
     private boolean addDiscoveredConverters = false;
     private boolean addDiscoveredInterceptors = false;
+    private boolean valueCache = false;
+    private boolean compiledChain = false;
+    private boolean frozenValues = false;
+    private boolean profileIndex = false;
+    private boolean lookupStatistics = false;
+    private boolean parallelSources = false;
+    private Executor parallelSourcesExecutor;
+    private boolean serviceIndex = false;
+    private ServiceIndex loadedServiceIndex;
+    private Path configImage;
+    private String configImageStamp;
 
     public SmallRyeConfigBuilder() {
     }
@@ -84,32 +100,50 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
 
     List<ConfigSource> discoverSources() {
         List<ConfigSource> discoveredSources = new ArrayList<>();
-        ServiceLoader<ConfigSource> configSourceLoader = ServiceLoader.load(ConfigSource.class, classLoader);
-        for (ConfigSource source : configSourceLoader) {
+        for (ConfigSource source : services(ConfigSource.class)) {
             discoveredSources.add(source);
         }
 
         // load all ConfigSources from ConfigSourceProviders
-        ServiceLoader<ConfigSourceProvider> configSourceProviderLoader = ServiceLoader.load(ConfigSourceProvider.class,
-                classLoader);
-        for (ConfigSourceProvider configSourceProvider : configSourceProviderLoader) {
+        for (ConfigSourceProvider configSourceProvider : services(ConfigSourceProvider.class)) {
             for (ConfigSource configSource : configSourceProvider.getConfigSources(classLoader)) {
                 discoveredSources.add(configSource);
             }
         }
 
-        ServiceLoader<ConfigSourceFactory> configSourceFactoryLoader = ServiceLoader.load(ConfigSourceFactory.class,
-                classLoader);
-        for (ConfigSourceFactory factory : configSourceFactoryLoader) {
-            discoveredSources.add(new ConfigurableConfigSource(factory));
+        discoveredSources.addAll(discoverSourceFactories());
+        return discoveredSources;
+    }
+
+    /**
+     * Discovers the sources like {@link #discoverSources()}, but loads the sources of each
+     * {@link ConfigSourceProvider} in a separate task of the {@link ParallelSources}.
+     */
+    void discoverSources(ParallelSources parallelSources) {
+        List<ConfigSource> discoveredSources = new ArrayList<>();
+        for (ConfigSource source : services(ConfigSource.class)) {
+            discoveredSources.add(source);
         }
+        parallelSources.add(discoveredSources);
+
+        for (ConfigSourceProvider configSourceProvider : services(ConfigSourceProvider.class)) {
+            parallelSources.submit(() -> configSourceProvider.getConfigSources(classLoader));
+        }
+
+        parallelSources.add(discoverSourceFactories());
+    }
 
+    private List<ConfigSource> discoverSourceFactories() {
+        List<ConfigSource> discoveredSources = new ArrayList<>();
+        for (ConfigSourceFactory factory : services(ConfigSourceFactory.class)) {
+            discoveredSources.add(new ConfigurableConfigSource(factory));
+        }
         return discoveredSources;
     }
 
     List<Converter<?>> discoverConverters() {
         List<Converter<?>> discoveredConverters = new ArrayList<>();
-        for (Converter<?> converter : ServiceLoader.load(Converter.class, classLoader)) {
+        for (Converter<?> converter : services(Converter.class)) {
             discoveredConverters.add(converter);
         }
         return discoveredConverters;
@@ -117,21 +151,55 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
 
     List<InterceptorWithPriority> discoverInterceptors() {
         List<InterceptorWithPriority> interceptors = new ArrayList<>();
-        ServiceLoader<ConfigSourceInterceptor> interceptorLoader = ServiceLoader.load(ConfigSourceInterceptor.class,
-                classLoader);
-        for (ConfigSourceInterceptor configSourceInterceptor : interceptorLoader) {
-            interceptors.add(new InterceptorWithPriority(configSourceInterceptor));
+        if (serviceIndex) {
+            final ServiceIndex index = getServiceIndex();
+            for (ServiceIndex.Entry entry : index.getEntries(ConfigSourceInterceptor.class)) {
+                interceptors.add(new InterceptorWithPriority(index.newInstance(ConfigSourceInterceptor.class, entry),
+                        entry.getPriority()));
+            }
+        } else {
+            for (ConfigSourceInterceptor configSourceInterceptor : services(ConfigSourceInterceptor.class)) {
+                interceptors.add(new InterceptorWithPriority(configSourceInterceptor));
+            }
         }
 
-        ServiceLoader<ConfigSourceInterceptorFactory> interceptorFactoryLoader = ServiceLoader
-                .load(ConfigSourceInterceptorFactory.class, classLoader);
-        for (ConfigSourceInterceptorFactory interceptor : interceptorFactoryLoader) {
+        for (ConfigSourceInterceptorFactory interceptor : services(ConfigSourceInterceptorFactory.class)) {
             interceptors.add(new InterceptorWithPriority(interceptor));
         }
 
         return interceptors;
     }
 
+    /**
+     * Adds the discovered converters of the service index, with the converted types and priorities resolved when the
+     * index was generated. The type of a converter without a type in the index is resolved from its class.
+     */
+    void discoverIndexedConverters(Map<Type, ConverterWithPriority> converters) {
+        final ServiceIndex index = getServiceIndex();
+        for (ServiceIndex.Entry entry : index.getEntries(Converter.class)) {
+            final Converter<?> converter = index.newInstance(Converter.class, entry);
+            Type type = index.getType(entry);
+            if (type == null) {
+                type = Converters.getConverterType(converter.getClass());
+            }
+            if (type == null) {
+                throw ConfigMessages.msg.unableToAddConverter(converter);
+            }
+            addConverter(type, entry.getPriority().orElse(DEFAULT_CONVERTER_PRIORITY), converter, converters);
+        }
+    }
+
+    private <S> Iterable<S> services(Class<S> service) {
+        return serviceIndex ? getServiceIndex().load(service) : ServiceLoader.load(service, classLoader);
+    }
+
+    ServiceIndex getServiceIndex() {
+        if (loadedServiceIndex == null) {
+            loadedServiceIndex = ServiceIndex.load(classLoader);
+        }
+        return loadedServiceIndex;
+    }
+
     @Override
     public SmallRyeConfigBuilder addDefaultSources() {
         addDefaultSources = true;
@@ -143,8 +211,24 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
 
         defaultSources.add(new EnvConfigSource());
         defaultSources.add(new SysPropConfigSource());
-        defaultSources.addAll(classPathSources(META_INF_MICROPROFILE_CONFIG_PROPERTIES, classLoader));
-        defaultSources.addAll(classPathSources(WEB_INF_MICROPROFILE_CONFIG_PROPERTIES, classLoader));
+        final List<ConfigSource> imageSources = configImage != null
+                ? ConfigImage.read(configImage, configImageStamp)
+                : Collections.emptyList();
+        if (!imageSources.isEmpty()) {
+            final Map<String, ConfigSource> recorded = new LinkedHashMap<>();
+            for (ConfigSource imageSource : imageSources) {
+                recorded.put(((ConfigImage.ConfigImageConfigSource) imageSource).getLocation(), imageSource);
+            }
+            defaultSources.addAll(ConfigImage.classPathSources(META_INF_MICROPROFILE_CONFIG_PROPERTIES, classLoader,
+                    recorded));
+            defaultSources.addAll(ConfigImage.classPathSources(WEB_INF_MICROPROFILE_CONFIG_PROPERTIES, classLoader,
+                    recorded));
+            // the recorded sources that are not resources of the class loader
+            defaultSources.addAll(recorded.values());
+        } else {
+            defaultSources.addAll(classPathSources(META_INF_MICROPROFILE_CONFIG_PROPERTIES, classLoader));
+            defaultSources.addAll(classPathSources(WEB_INF_MICROPROFILE_CONFIG_PROPERTIES, classLoader));
+        }
 
         return defaultSources;
     }
@@ -284,6 +368,166 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return this;
     }
 
+    /**
+     * Enables a cache of resolved {@link ConfigValue} in the built {@link SmallRyeConfig}. Once a name is resolved,
+     * the next lookups of the same name skip the interceptor chain until the value is invalidated with the
+     * {@link ConfigValueCache} returned by {@link SmallRyeConfig#getConfigValueCache()}.
+     * <p>
+     *
+     * The result of {@link SmallRyeConfig#getValue(String, Converter)} is also cached for the {@link Converter}
+     * instance used, so the same converted instance is returned to every caller until the value is invalidated.
+     * Converters that return mutable instances should not be used with the cache.
+     * <p>
+     *
+     * The names returned by {@link SmallRyeConfig#getPropertyNames()} are also indexed once, and only updated when the
+     * cache is invalidated.
+     *
+     * @param valueCache {@code true} to enable the cache
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withValueCache(boolean valueCache) {
+        this.valueCache = valueCache;
+        return this;
+    }
+
+    /**
+     * Compiles the interceptor chain of the built {@link SmallRyeConfig} into flat arrays, dispatched by index. Each
+     * run of consecutive {@link org.eclipse.microprofile.config.spi.ConfigSource} in the chain is queried in a single
+     * loop. The lookup order is the same as the regular chain.
+     *
+     * @param compiledChain {@code true} to compile the interceptor chain
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withCompiledChain(boolean compiledChain) {
+        this.compiledChain = compiledChain;
+        return this;
+    }
+
+    /**
+     * Freezes the values of the built {@link SmallRyeConfig}. Every name known by the configuration is resolved once,
+     * on the first lookup, including profiles and expressions, and {@link SmallRyeConfig#getConfigValue(String)}
+     * retrieves the resolved value directly, without going through the interceptor chain. Only names unknown when the
+     * values were frozen are resolved with the interceptor chain.
+     * <p>
+     *
+     * Frozen values never change, even if the sources change or the {@link ConfigValueCache} is invalidated, so this
+     * should only be used when the configuration does not change after startup.
+     *
+     * @param frozenValues {@code true} to freeze the values
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withFrozenValues(boolean frozenValues) {
+        this.frozenValues = frozenValues;
+        return this;
+    }
+
+    /**
+     * Indexes the profile names of the sources of the built {@link SmallRyeConfig}. When the configuration is built,
+     * the property names of each source with a profile prefix, like {@code %dev.my.prop}, are split by profile and
+     * indexed by the name without the profile. A lookup then retrieves the profile value with a single probe of the
+     * index of each source, instead of a lookup of the entire chain for each profile, and proceeds with the chain only
+     * for the name without the profile.
+     * <p>
+     *
+     * Only sources with a fixed set of names (that provide a {@link PropertyNamesFilter}) are indexed. The other
+     * sources are still queried with each profile name. The profile names are retrieved directly from the sources, so
+     * the interceptors with a lower priority than the {@link ProfileConfigSourceInterceptor} are not applied to the
+     * profile names, but only to the names without a profile.
+     *
+     * @param profileIndex {@code true} to index the profile names
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withProfileIndex(boolean profileIndex) {
+        this.profileIndex = profileIndex;
+        return this;
+    }
+
+    /**
+     * Records the {@link LookupStatistics} of each interceptor and source of the built {@link SmallRyeConfig},
+     * retrieved with {@link SmallRyeConfig#getLookupStatistics()}. Each lookup of an interceptor or a source is
+     * counted and timed, so this adds a small cost to every lookup that goes through the chain.
+     *
+     * @param lookupStatistics {@code true} to record the lookup statistics
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withLookupStatistics(boolean lookupStatistics) {
+        this.lookupStatistics = lookupStatistics;
+        return this;
+    }
+
+    /**
+     * Loads the discovered and the default sources of the built {@link SmallRyeConfig} concurrently. The sources of
+     * each discovered {@link ConfigSourceProvider} and the default sources are loaded in separate tasks, so providers
+     * that parse files or retrieve remote resources do not wait for each other. The loaded sources are the same, and
+     * in the same order, as the sources loaded in sequence.
+     * <p>
+     *
+     * The tasks run on virtual threads if the JVM supports them, or on a pool of one thread per processor, and at
+     * least 4 threads, unless an executor is set with {@link #withParallelSources(Executor)}. If more than one task
+     * fails, the exception of the first failed task is thrown as the cause of an {@link IllegalStateException}, with
+     * the exceptions of the other tasks suppressed.
+     *
+     * @param parallelSources {@code true} to load the sources concurrently
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withParallelSources(boolean parallelSources) {
+        this.parallelSources = parallelSources;
+        return this;
+    }
+
+    /**
+     * Loads the discovered and the default sources of the built {@link SmallRyeConfig} concurrently, like
+     * {@link #withParallelSources(boolean)}, with the tasks running on the given executor.
+     *
+     * @param executor the executor of the tasks that load the sources
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withParallelSources(Executor executor) {
+        this.parallelSources = true;
+        this.parallelSourcesExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Discovers the sources, converters and interceptors with the service index generated at build time by the
+     * {@code smallrye-config-service-index} annotation processor, instead of a {@link ServiceLoader} lookup of each
+     * service. The index is a single resource in each jar, which also lists the converted type of each
+     * {@link Converter} and the {@link Priority} of each converter and interceptor, so these are not resolved with
+     * reflection.
+     * <p>
+     *
+     * Only the services listed in an index are discovered, so every jar with services to discover must be compiled
+     * with the annotation processor, and a single jar of the application must merge the indexes, for instance with
+     * the {@code AppendingTransformer} of the Maven Shade Plugin. With the
+     * {@code io.smallrye.config.service-index.check} system property set to {@code true}, a warning is logged for each
+     * implementation of the {@code META-INF/services} files which is not in an index.
+     *
+     * @param serviceIndex {@code true} to discover the services with the service index
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withServiceIndex(boolean serviceIndex) {
+        this.serviceIndex = serviceIndex;
+        return this;
+    }
+
+    /**
+     * Adds the sources recorded in a {@link ConfigImage} to the default sources, in place of the
+     * {@code microprofile-config.properties} files of the class loader, if the image exists and is not stale. The files
+     * of the class loader that are not recorded in the image, like a file with secrets, are still loaded. A recorded
+     * source is dropped if a source with the same name is also added to the builder, or discovered. The image
+     * is only read if the default sources are added, and must be written with
+     * {@link ConfigImage#write(SmallRyeConfig, Path, String)}.
+     *
+     * @param image the path of the image
+     * @param stamp the expected stamp of the image
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withConfigImage(Path image, String stamp) {
+        this.configImage = image;
+        this.configImageStamp = stamp;
+        return this;
+    }
+
     @Override
     public SmallRyeConfigBuilder withConverters(Converter<?>[] converters) {
         for (Converter<?> converter : converters) {
@@ -316,7 +560,7 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     }
 
     private static int getPriority(Converter<?> converter) {
-        int priority = 100;
+        int priority = DEFAULT_CONVERTER_PRIORITY;
         Priority priorityAnnotation = converter.getClass().getAnnotation(Priority.class);
         if (priorityAnnotation != null) {
             priority = priorityAnnotation.value();
@@ -360,6 +604,42 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return addDiscoveredInterceptors;
     }
 
+    boolean isValueCache() {
+        return valueCache;
+    }
+
+    boolean isCompiledChain() {
+        return compiledChain;
+    }
+
+    boolean isFrozenValues() {
+        return frozenValues;
+    }
+
+    boolean isProfileIndex() {
+        return profileIndex;
+    }
+
+    boolean isLookupStatistics() {
+        return lookupStatistics;
+    }
+
+    boolean isServiceIndex() {
+        return serviceIndex;
+    }
+
+    boolean isParallelSources() {
+        return parallelSources;
+    }
+
+    Executor getParallelSourcesExecutor() {
+        return parallelSourcesExecutor;
+    }
+
+    ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
     @Override
     public SmallRyeConfig build() {
         ConfigMappingProvider mappingProvider = mappingsBuilder.build();
@@ -400,6 +680,14 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         private final int priority;
 
         private InterceptorWithPriority(ConfigSourceInterceptor interceptor) {
+            this(interceptor, null);
+        }
+
+        /**
+         * @param annotatedPriority the {@link Priority} of the interceptor class, or {@code null} to read the
+         *        annotation.
+         */
+        private InterceptorWithPriority(ConfigSourceInterceptor interceptor, OptionalInt annotatedPriority) {
             this(new ConfigSourceInterceptorFactory() {
                 @Override
                 public ConfigSourceInterceptor getInterceptor(final ConfigSourceInterceptorContext context) {
@@ -413,6 +701,10 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
                         return priority;
                     }
 
+                    if (annotatedPriority != null) {
+                        return annotatedPriority.isPresent() ? annotatedPriority : OPTIONAL_DEFAULT_PRIORITY;
+                    }
+
                     final Priority priorityAnnotation = interceptor.getClass().getAnnotation(Priority.class);
                     return priorityAnnotation != null ? OptionalInt.of(priorityAnnotation.value()) : OPTIONAL_DEFAULT_PRIORITY;
                 }
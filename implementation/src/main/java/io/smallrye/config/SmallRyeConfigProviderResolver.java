@@ -17,22 +17,47 @@ package io.smallrye.config;
 
 import static io.smallrye.config.SecuritySupport.getContextClassLoader;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
 
 /**
+ * The {@link Config} of each class loader is built once, by the first caller of {@link #getConfig(ClassLoader)} for
+ * that class loader, while other callers of the same class loader wait for it. The builds of different class loaders
+ * do not wait for each other. A build that requires the configuration it builds, in its own thread or in the tasks of
+ * {@link SmallRyeConfigBuilder#withParallelSources(boolean)}, builds it again instead of waiting for itself.
+ * <p>
+ *
+ * The class loaders are held weakly, so the entry of a class loader is removed when it is collected. A
+ * {@link Config} that references classes of its class loader still keeps the class loader reachable, so the
+ * {@link Config} must be released with {@link #releaseConfig(Config)} when the class loader is discarded.
+ *
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
-    private final Map<ClassLoader, Config> configsForClassLoader = new ConcurrentHashMap<>();
+    private final Map<Object, ConfigHolder> configsForClassLoader = new ConcurrentHashMap<>();
+    private final ReferenceQueue<ClassLoader> collectedClassLoaders = new ReferenceQueue<>();
+    /**
+     * The configurations built by the current thread, or by the build that started the task of the current thread.
+     */
+    private static final ThreadLocal<Set<ConfigHolder>> BUILDS = new ThreadLocal<>();
 
     static final ClassLoader SYSTEM_CL;
 
@@ -67,20 +92,40 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
     @Override
     public Config getConfig(ClassLoader classLoader) {
         final ClassLoader realClassLoader = getRealClassLoader(classLoader);
-        final Map<ClassLoader, Config> configsForClassLoader = this.configsForClassLoader;
-        Config config = configsForClassLoader.get(realClassLoader);
+        final ConfigHolder holder = configsForClassLoader.get(new ClassLoaderLookup(realClassLoader));
+        if (holder != null) {
+            return holder.get(() -> buildConfig(realClassLoader, classLoader));
+        }
+
+        expungeCollectedClassLoaders();
+        final ClassLoaderKey key = new ClassLoaderKey(realClassLoader, collectedClassLoaders);
+        final ConfigHolder building = new ConfigHolder();
+        final ConfigHolder existing = configsForClassLoader.putIfAbsent(key, building);
+        if (existing != null) {
+            return existing.get(() -> buildConfig(realClassLoader, classLoader));
+        }
+
+        final Config config;
+        try {
+            config = building.build(() -> buildConfig(realClassLoader, classLoader));
+        } catch (RuntimeException | Error e) {
+            // don't cache failures, so the next caller builds the config again
+            configsForClassLoader.remove(key, building);
+            building.fail(e);
+            throw e;
+        }
+        if (!building.complete(config)) {
+            // released while it was built
+            configsForClassLoader.remove(key, building);
+        }
+        return config;
+    }
+
+    private Config buildConfig(final ClassLoader realClassLoader, final ClassLoader classLoader) {
+        final Config config = getFactoryFor(realClassLoader, false).getConfigFor(this, classLoader);
+        // don't cache null, as that would leak class loaders
         if (config == null) {
-            synchronized (configsForClassLoader) {
-                config = configsForClassLoader.get(realClassLoader);
-                if (config == null) {
-                    config = getFactoryFor(realClassLoader, false).getConfigFor(this, classLoader);
-                    // don't cache null, as that would leak class loaders
-                    if (config == null) {
-                        throw ConfigMessages.msg.noConfigForClassloader();
-                    }
-                    configsForClassLoader.put(realClassLoader, config);
-                }
-            }
+            throw ConfigMessages.msg.noConfigForClassloader();
         }
         return config;
     }
@@ -111,12 +156,13 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
             throw ConfigMessages.msg.configIsNull();
         }
         final ClassLoader realClassLoader = getRealClassLoader(classLoader);
-        final Map<ClassLoader, Config> configsForClassLoader = this.configsForClassLoader;
-        synchronized (configsForClassLoader) {
-            final Config existing = configsForClassLoader.putIfAbsent(realClassLoader, config);
-            if (existing != null) {
-                throw ConfigMessages.msg.configAlreadyRegistered();
-            }
+        expungeCollectedClassLoaders();
+        final ConfigHolder holder = new ConfigHolder();
+        holder.complete(config);
+        final ConfigHolder existing = configsForClassLoader
+                .putIfAbsent(new ClassLoaderKey(realClassLoader, collectedClassLoaders), holder);
+        if (existing != null) {
+            throw ConfigMessages.msg.configAlreadyRegistered();
         }
     }
 
@@ -124,9 +170,35 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
     public void releaseConfig(Config config) {
         // todo: see https://github.com/eclipse/microprofile-config/issues/136#issuecomment-535962313
         // todo: see https://github.com/eclipse/microprofile-config/issues/471
-        final Map<ClassLoader, Config> configsForClassLoader = this.configsForClassLoader;
-        synchronized (configsForClassLoader) {
-            configsForClassLoader.values().removeIf(v -> v == config);
+        configsForClassLoader.values().removeIf(holder -> holder.release(config));
+        expungeCollectedClassLoaders();
+    }
+
+    /**
+     * Wraps a task of a configuration build that runs in another thread, so that the task builds the configurations of
+     * the current thread again, instead of waiting for the build that waits for the task.
+     */
+    static <T> Supplier<T> withCurrentBuilds(final Supplier<T> task) {
+        final Set<ConfigHolder> builds = BUILDS.get();
+        if (builds == null || builds.isEmpty()) {
+            return task;
+        }
+        final Set<ConfigHolder> taskBuilds = new HashSet<>(builds);
+        return () -> {
+            final Set<ConfigHolder> previous = BUILDS.get();
+            BUILDS.set(new HashSet<>(taskBuilds));
+            try {
+                return task.get();
+            } finally {
+                BUILDS.set(previous);
+            }
+        };
+    }
+
+    private void expungeCollectedClassLoaders() {
+        Reference<? extends ClassLoader> key;
+        while ((key = collectedClassLoaders.poll()) != null) {
+            configsForClassLoader.remove(key);
         }
     }
 
@@ -139,4 +211,133 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
         }
         return classLoader;
     }
+
+    /**
+     * The key of a class loader in the map of configurations, which does not keep the class loader reachable.
+     */
+    private static final class ClassLoaderKey extends WeakReference<ClassLoader> {
+        private final int hashCode;
+
+        ClassLoaderKey(final ClassLoader classLoader, final ReferenceQueue<ClassLoader> queue) {
+            super(classLoader, queue);
+            this.hashCode = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            final ClassLoader classLoader = get();
+            if (classLoader == null) {
+                // a collected class loader is only equal to its own key, to remove it from the map
+                return false;
+            }
+            if (obj instanceof ClassLoaderKey) {
+                return classLoader == ((ClassLoaderKey) obj).get();
+            }
+            return obj instanceof ClassLoaderLookup && classLoader == ((ClassLoaderLookup) obj).classLoader;
+        }
+    }
+
+    /**
+     * Looks up the key of a class loader without creating a {@link WeakReference}.
+     */
+    private static final class ClassLoaderLookup {
+        private final ClassLoader classLoader;
+
+        ClassLoaderLookup(final ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof ClassLoaderKey && classLoader == ((ClassLoaderKey) obj).get();
+        }
+    }
+
+    /**
+     * The configuration of a class loader, completed when its build is over.
+     */
+    private static final class ConfigHolder {
+        private final CompletableFuture<Config> config = new CompletableFuture<>();
+        // the configurations released while the build is pending, guarded by this
+        private Set<Config> released;
+
+        Config build(final Supplier<Config> build) {
+            Set<ConfigHolder> builds = BUILDS.get();
+            if (builds == null) {
+                builds = new HashSet<>();
+                BUILDS.set(builds);
+            }
+            builds.add(this);
+            try {
+                return build.get();
+            } finally {
+                builds.remove(this);
+                if (builds.isEmpty()) {
+                    BUILDS.remove();
+                }
+            }
+        }
+
+        /**
+         * Completes the build, and returns {@code false} if the configuration was released while it was built, so it
+         * must not be cached.
+         */
+        synchronized boolean complete(final Config config) {
+            this.config.complete(config);
+            return released == null || !released.contains(config);
+        }
+
+        void fail(final Throwable failure) {
+            this.config.completeExceptionally(failure);
+        }
+
+        /**
+         * Returns {@code true} if the holder holds the released configuration. The release of a pending build is
+         * recorded, to not cache the configuration if it is the one built.
+         */
+        synchronized boolean release(final Config config) {
+            if (!this.config.isDone()) {
+                if (released == null) {
+                    released = Collections.newSetFromMap(new IdentityHashMap<>());
+                }
+                released.add(config);
+                return false;
+            }
+            return !this.config.isCompletedExceptionally() && this.config.join() == config;
+        }
+
+        /**
+         * Waits for the build of the configuration. If the configuration is required by its own build, waiting would
+         * never end, so the configuration is built again, without caching it.
+         */
+        Config get(final Supplier<Config> build) {
+            final Set<ConfigHolder> builds = BUILDS.get();
+            if (builds != null && builds.contains(this)) {
+                return build.get();
+            }
+            try {
+                return config.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                } else if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
 }
@@ -2,8 +2,14 @@ package io.smallrye.config;
 
 import static io.smallrye.config.ConfigValueConfigSourceWrapper.wrap;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
@@ -12,6 +18,7 @@ class SmallRyeConfigSourceInterceptor implements ConfigSourceInterceptor {
     private static final long serialVersionUID = 5513331820671039755L;
 
     private final ConfigValueConfigSource configSource;
+    private final PropertyNamesFilter propertyNamesFilter;
 
     private SmallRyeConfigSourceInterceptor(final ConfigSource configSource) {
         this(wrap(configSource));
@@ -19,14 +26,41 @@ class SmallRyeConfigSourceInterceptor implements ConfigSourceInterceptor {
 
     private SmallRyeConfigSourceInterceptor(final ConfigValueConfigSource configSource) {
         this.configSource = configSource;
+        this.propertyNamesFilter = configSource.getPropertyNamesFilter();
     }
 
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+        if (propertyNamesFilter != null && !propertyNamesFilter.mayContain(name)) {
+            return context.proceed(name);
+        }
+
         final ConfigValue configValue = configSource.getConfigValue(name);
         return configValue != null ? configValue : context.proceed(name);
     }
 
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final ConfigKey key) {
+        if (propertyNamesFilter != null && !propertyNamesFilter.mayContain(key.getName())) {
+            return context.proceed(key);
+        }
+
+        final ConfigValue configValue = configSource.getConfigValue(key);
+        return configValue != null ? configValue : context.proceed(key);
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context,
+            final Collection<String> names) {
+        final Map<String, ConfigValue> values = new HashMap<>(
+                getConfigValues(configSource, propertyNamesFilter, names));
+        final List<String> remaining = remaining(names, values);
+        if (!remaining.isEmpty()) {
+            values.putAll(context.proceed(remaining));
+        }
+        return values;
+    }
+
     @Override
     public Iterator<String> iterateNames(final ConfigSourceInterceptorContext context) {
         final Set<String> names = new HashSet<>();
@@ -49,7 +83,19 @@ class SmallRyeConfigSourceInterceptor implements ConfigSourceInterceptor {
         return values.iterator();
     }
 
+    ConfigValueConfigSource getConfigValueConfigSource() {
+        return configSource;
+    }
+
+    PropertyNamesFilter getPropertyNamesFilter() {
+        return propertyNamesFilter;
+    }
+
     ConfigSource getSource() {
+        ConfigValueConfigSource configSource = this.configSource;
+        if (configSource instanceof StatisticsConfigValueConfigSource) {
+            configSource = ((StatisticsConfigValueConfigSource) configSource).getConfigSource();
+        }
         if (configSource instanceof ConfigValueConfigSourceWrapper) {
             return ((ConfigValueConfigSourceWrapper) configSource).unwrap();
         }
@@ -57,7 +103,58 @@ class SmallRyeConfigSourceInterceptor implements ConfigSourceInterceptor {
         return configSource;
     }
 
-    static ConfigSourceInterceptor configSourceInterceptor(final ConfigSource configSource) {
+    /**
+     * @return the {@link LookupStatistics.Statistics} of the source, or {@code null} if the source is not instrumented
+     */
+    LookupStatistics.Statistics getStatistics() {
+        if (configSource instanceof StatisticsConfigValueConfigSource) {
+            return ((StatisticsConfigValueConfigSource) configSource).getStatistics();
+        }
+        return null;
+    }
+
+    /**
+     * @return a {@link SmallRyeConfigSourceInterceptor} of the same source, recording the lookups of the source in
+     *         the {@link LookupStatistics.Statistics}
+     */
+    SmallRyeConfigSourceInterceptor withStatistics(final LookupStatistics.Statistics statistics) {
+        return new SmallRyeConfigSourceInterceptor(new StatisticsConfigValueConfigSource(configSource, statistics));
+    }
+
+    /**
+     * Looks up the names in a single call to the source, skipping the names excluded by the filter.
+     */
+    static Map<String, ConfigValue> getConfigValues(
+            final ConfigValueConfigSource configSource,
+            final PropertyNamesFilter propertyNamesFilter,
+            final Collection<String> names) {
+
+        Collection<String> lookup = names;
+        if (propertyNamesFilter != null) {
+            lookup = new ArrayList<>(names.size());
+            for (String name : names) {
+                if (propertyNamesFilter.mayContain(name)) {
+                    lookup.add(name);
+                }
+            }
+        }
+        return lookup.isEmpty() ? Collections.emptyMap() : configSource.getConfigValues(lookup);
+    }
+
+    /**
+     * The names without a value yet, to proceed with the next source.
+     */
+    static List<String> remaining(final Collection<String> names, final Map<String, ConfigValue> values) {
+        final List<String> remaining = new ArrayList<>(names.size() - Math.min(names.size(), values.size()));
+        for (String name : names) {
+            if (!values.containsKey(name)) {
+                remaining.add(name);
+            }
+        }
+        return remaining;
+    }
+
+    static SmallRyeConfigSourceInterceptor configSourceInterceptor(final ConfigSource configSource) {
         return new SmallRyeConfigSourceInterceptor(configSource);
     }
 }
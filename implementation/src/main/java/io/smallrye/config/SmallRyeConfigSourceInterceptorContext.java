@@ -1,6 +1,8 @@
 package io.smallrye.config;
 
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
 
 class SmallRyeConfigSourceInterceptorContext implements ConfigSourceInterceptorContext {
     private static final long serialVersionUID = 6654406739008729337L;
@@ -20,6 +22,16 @@ class SmallRyeConfigSourceInterceptorContext implements ConfigSourceInterceptorC
         return interceptor.getValue(next, name);
     }
 
+    @Override
+    public ConfigValue proceed(final ConfigKey key) {
+        return interceptor.getValue(next, key);
+    }
+
+    @Override
+    public Map<String, ConfigValue> proceed(final Collection<String> names) {
+        return interceptor.getValues(next, names);
+    }
+
     @Override
     public Iterator<String> iterateNames() {
         return interceptor.iterateNames(next);
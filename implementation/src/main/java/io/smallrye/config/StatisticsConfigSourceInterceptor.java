@@ -0,0 +1,71 @@
+package io.smallrye.config;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Records the {@link LookupStatistics.Statistics} of the lookups of a single name in an interceptor of the chain.
+ */
+final class StatisticsConfigSourceInterceptor implements ConfigSourceInterceptor {
+    private static final long serialVersionUID = 4263305532290164530L;
+
+    private final ConfigSourceInterceptor interceptor;
+    private final LookupStatistics.Statistics statistics;
+
+    StatisticsConfigSourceInterceptor(final ConfigSourceInterceptor interceptor,
+            final LookupStatistics.Statistics statistics) {
+        this.interceptor = interceptor;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+        final long[] nestedNanos = LookupStatistics.nestedNanos();
+        final long parentNanos = nestedNanos[0];
+        nestedNanos[0] = 0;
+        final long start = System.nanoTime();
+        ConfigValue configValue = null;
+        try {
+            configValue = interceptor.getValue(context, name);
+            return configValue;
+        } finally {
+            statistics.record(nestedNanos, parentNanos, start, configValue != null);
+        }
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final ConfigKey key) {
+        final long[] nestedNanos = LookupStatistics.nestedNanos();
+        final long parentNanos = nestedNanos[0];
+        nestedNanos[0] = 0;
+        final long start = System.nanoTime();
+        ConfigValue configValue = null;
+        try {
+            configValue = interceptor.getValue(context, key);
+            return configValue;
+        } finally {
+            statistics.record(nestedNanos, parentNanos, start, configValue != null);
+        }
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context,
+            final Collection<String> names) {
+        return interceptor.getValues(context, names);
+    }
+
+    @Override
+    public Iterator<String> iterateNames(final ConfigSourceInterceptorContext context) {
+        return interceptor.iterateNames(context);
+    }
+
+    @Override
+    public Iterator<ConfigValue> iterateValues(final ConfigSourceInterceptorContext context) {
+        return interceptor.iterateValues(context);
+    }
+
+    ConfigSourceInterceptor getInterceptor() {
+        return interceptor;
+    }
+}
@@ -0,0 +1,102 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * Records the {@link LookupStatistics.Statistics} of the lookups of a single name in a source of the chain.
+ */
+final class StatisticsConfigValueConfigSource implements ConfigValueConfigSource, Serializable {
+    private static final long serialVersionUID = -3009466322137935812L;
+
+    private final ConfigValueConfigSource configSource;
+    private final LookupStatistics.Statistics statistics;
+
+    StatisticsConfigValueConfigSource(final ConfigValueConfigSource configSource,
+            final LookupStatistics.Statistics statistics) {
+        this.configSource = configSource;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public ConfigValue getConfigValue(final String propertyName) {
+        final long[] nestedNanos = LookupStatistics.nestedNanos();
+        final long parentNanos = nestedNanos[0];
+        nestedNanos[0] = 0;
+        final long start = System.nanoTime();
+        ConfigValue configValue = null;
+        try {
+            configValue = configSource.getConfigValue(propertyName);
+            return configValue;
+        } finally {
+            statistics.record(nestedNanos, parentNanos, start, configValue != null);
+        }
+    }
+
+    @Override
+    public ConfigValue getConfigValue(final ConfigKey key) {
+        final long[] nestedNanos = LookupStatistics.nestedNanos();
+        final long parentNanos = nestedNanos[0];
+        nestedNanos[0] = 0;
+        final long start = System.nanoTime();
+        ConfigValue configValue = null;
+        try {
+            configValue = configSource.getConfigValue(key);
+            return configValue;
+        } finally {
+            statistics.record(nestedNanos, parentNanos, start, configValue != null);
+        }
+    }
+
+    @Override
+    public Map<String, ConfigValue> getConfigValues(final Collection<String> propertyNames) {
+        return configSource.getConfigValues(propertyNames);
+    }
+
+    @Override
+    public Map<String, ConfigValue> getConfigValueProperties() {
+        return configSource.getConfigValueProperties();
+    }
+
+    @Override
+    public PropertyNamesFilter getPropertyNamesFilter() {
+        return configSource.getPropertyNamesFilter();
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        return configSource.getProperties();
+    }
+
+    @Override
+    public String getValue(final String propertyName) {
+        return configSource.getValue(propertyName);
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return configSource.getPropertyNames();
+    }
+
+    @Override
+    public String getName() {
+        return configSource.getName();
+    }
+
+    @Override
+    public int getOrdinal() {
+        return configSource.getOrdinal();
+    }
+
+    ConfigValueConfigSource getConfigSource() {
+        return configSource;
+    }
+
+    LookupStatistics.Statistics getStatistics() {
+        return statistics;
+    }
+}
@@ -0,0 +1,102 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.ProfileConfigSourceInterceptor.SMALLRYE_PROFILE;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Priority;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.common.MapBackedConfigSource;
+
+class CompiledConfigSourceInterceptorContextTest {
+    @Test
+    void ordinals() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source("low", 100, "my.prop", "low", "my.low", "low"))
+                .withSources(source("mid", 200, "my.prop", "mid", "my.mid", "mid"))
+                .withSources(source("high", 300, "my.prop", "high"))
+                .withCompiledChain(true)
+                .build();
+
+        assertEquals("high", config.getRawValue("my.prop"));
+        assertEquals("high", config.getConfigValue("my.prop").getConfigSourceName());
+        assertEquals("mid", config.getRawValue("my.mid"));
+        assertEquals("low", config.getRawValue("my.low"));
+        assertNull(config.getRawValue("my.missing"));
+    }
+
+    @Test
+    void interceptorBetweenSources() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source("low", 100, "my.prop", "low"))
+                .withSources(source("high", 6000, "my.high", "high"))
+                .withInterceptors(new UpperCaseInterceptor())
+                .withCompiledChain(true)
+                .build();
+
+        // interceptor runs after the high source, but before the low source
+        assertEquals("high", config.getRawValue("my.high"));
+        assertEquals("LOW", config.getRawValue("my.prop"));
+    }
+
+    @Test
+    void sameAsLinkedChain() {
+        String[] keyValues = new String[] {
+                "my.prop", "1",
+                "%prof.my.prop", "${%prof.my.prop.profile}",
+                "%prof.my.prop.profile", "2",
+                "my.expression", "${my.prop}",
+                SMALLRYE_PROFILE, "prof" };
+
+        SmallRyeConfig linked = new SmallRyeConfigBuilder()
+                .addDefaultSources()
+                .addDefaultInterceptors()
+                .withSources(KeyValuesConfigSource.config(keyValues))
+                .build();
+
+        SmallRyeConfig compiled = new SmallRyeConfigBuilder()
+                .addDefaultSources()
+                .addDefaultInterceptors()
+                .withSources(KeyValuesConfigSource.config(keyValues))
+                .withCompiledChain(true)
+                .build();
+
+        assertEquals(linked.getRawValue("my.prop"), compiled.getRawValue("my.prop"));
+        assertEquals(linked.getRawValue("my.expression"), compiled.getRawValue("my.expression"));
+        assertEquals("2", compiled.getRawValue("my.expression"));
+
+        Set<String> linkedNames = StreamSupport.stream(linked.getPropertyNames().spliterator(), false).collect(toSet());
+        Set<String> compiledNames = StreamSupport.stream(compiled.getPropertyNames().spliterator(), false)
+                .collect(toSet());
+        assertEquals(linkedNames, compiledNames);
+        assertTrue(compiledNames.contains("my.prop.profile"));
+    }
+
+    private static ConfigSource source(String name, int ordinal, String... keyValues) {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.put(keyValues[i], keyValues[i + 1]);
+        }
+        return new MapBackedConfigSource(name, properties, ordinal) {
+        };
+    }
+
+    @Priority(5000)
+    private static class UpperCaseInterceptor implements ConfigSourceInterceptor {
+        @Override
+        public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+            ConfigValue configValue = context.proceed(name);
+            return configValue != null ? configValue.withValue(configValue.getValue().toUpperCase()) : null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigEventsTest {
+    @Test
+    void events(@TempDir Path tempDir) throws Exception {
+        // most JDK 8 builds do not have the Flight Recorder API, and the events are not emitted
+        assumeTrue(isJfrAvailable());
+        JfrConfigEventsAssertions.assertEvents(tempDir);
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ConfigEventsTest.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigImageTest {
+    @Test
+    void writeAndRead(@TempDir Path tempDir) throws Exception {
+        Path image = tempDir.resolve("config.image");
+        ConfigImage.write(buildConfig(tempDir), image, "1.0");
+
+        // only the file is recorded, and not the environment, the system properties, the defaults or the map
+        List<ConfigSource> configSources = ConfigImage.read(image, "1.0");
+        assertEquals(1, configSources.size());
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultSources()
+                .addDefaultInterceptors()
+                .withSources(configSources)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("5678", config.getRawValue("my.expression"));
+        assertEquals(1000, config.getConfigValue("my.prop").getConfigSourceOrdinal());
+        assertEquals(2, config.getConfigValue("my.prop").getLineNumber());
+        assertNull(config.getRawValue("my.default"));
+        assertNull(config.getRawValue("my.map"));
+        assertEquals(config.getRawValue("java.version"), System.getProperty("java.version"));
+        assertEquals("1234", config.getRawValue("SMALLRYE_MP_CONFIG_PROP"));
+    }
+
+    @Test
+    void secretKeys(@TempDir Path tempDir) throws Exception {
+        Path image = tempDir.resolve("config.image");
+        resource(tempDir.resolve("plain"), "my.prop=1234");
+        resource(tempDir.resolve("secrets"), "my.secret=secret", "%prod.my.other.secret=prod");
+        ClassLoader classLoader = new URLClassLoader(
+                new URL[] { tempDir.resolve("plain").toUri().toURL(), tempDir.resolve("secrets").toUri().toURL() },
+                ConfigImageTest.class.getClassLoader());
+        ConfigImage.write(new SmallRyeConfigBuilder()
+                .forClassLoader(classLoader)
+                .addDefaultSources()
+                .addDefaultInterceptors()
+                .withSecretKeys("my.secret", "my.other.secret")
+                .build(), image, "1.0");
+
+        // the source with secrets is not recorded
+        List<ConfigSource> configSources = ConfigImage.read(image, "1.0");
+        assertEquals(1, configSources.size());
+        assertEquals(Collections.singleton("my.prop"), configSources.get(0).getPropertyNames());
+        assertFalse(new String(Files.readAllBytes(image), StandardCharsets.UTF_8).contains("secret"));
+
+        // but loaded from the class loader with the image
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .forClassLoader(classLoader)
+                .addDefaultSources()
+                .addDefaultInterceptors()
+                .withSecretKeys("my.secret", "my.other.secret")
+                .withConfigImage(image, "1.0")
+                .build();
+        assertEquals("1234", config.getRawValue("my.prop"));
+        for (ConfigSource configSource : config.getConfigSources()) {
+            if (configSource.getPropertyNames().contains("my.prop")) {
+                assertTrue(configSource instanceof ConfigImage.ConfigImageConfigSource);
+            }
+        }
+        assertEquals("secret", SecretKeys.doUnlocked(() -> config.getRawValue("my.secret")));
+    }
+
+    @Test
+    void newResource(@TempDir Path tempDir) throws Exception {
+        Path image = tempDir.resolve("config.image");
+        resource(tempDir.resolve("first"), "my.prop=1234");
+        URL first = tempDir.resolve("first").toUri().toURL();
+        ConfigImage.write(new SmallRyeConfigBuilder()
+                .forClassLoader(new URLClassLoader(new URL[] { first }, ConfigImageTest.class.getClassLoader()))
+                .addDefaultSources()
+                .build(), image, "1.0");
+
+        // a resource added after the image was written is loaded with the image
+        resource(tempDir.resolve("second"), "my.added=5678");
+        URL second = tempDir.resolve("second").toUri().toURL();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .forClassLoader(new URLClassLoader(new URL[] { first, second }, ConfigImageTest.class.getClassLoader()))
+                .addDefaultSources()
+                .withConfigImage(image, "1.0")
+                .build();
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("5678", config.getRawValue("my.added"));
+        int recorded = 0;
+        for (ConfigSource configSource : config.getConfigSources()) {
+            if (configSource instanceof ConfigImage.ConfigImageConfigSource) {
+                recorded++;
+            }
+        }
+        assertEquals(1, recorded);
+    }
+
+    @Test
+    void modified(@TempDir Path tempDir) throws Exception {
+        Path image = tempDir.resolve("config.image");
+        ConfigImage.write(buildConfig(tempDir), image, "1.0");
+
+        Path file = tempDir.resolve("microprofile-config.properties");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+        assertTrue(ConfigImage.read(image, "1.0").isEmpty());
+
+        ConfigImage.write(buildConfig(tempDir), image, "1.0");
+        Files.delete(file);
+        assertTrue(ConfigImage.read(image, "1.0").isEmpty());
+    }
+
+    @Test
+    void builder(@TempDir Path tempDir) throws Exception {
+        Path image = tempDir.resolve("config.image");
+        ConfigImage.write(buildConfig(tempDir), image, "1.0");
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultSources()
+                .withConfigImage(image, "1.0")
+                .build();
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("1234", config.getRawValue("SMALLRYE_MP_CONFIG_PROP"));
+
+        // a recorded source also loaded by the builder is not added twice
+        Path file = tempDir.resolve("microprofile-config.properties");
+        SmallRyeConfig loaded = new SmallRyeConfigBuilder()
+                .addDefaultSources()
+                .withConfigImage(image, "1.0")
+                .withSources(new ConfigValuePropertiesConfigSource(file.toUri().toURL()))
+                .build();
+        int sources = 0;
+        for (ConfigSource configSource : loaded.getConfigSources()) {
+            if (configSource.getName().contains("microprofile-config.properties")) {
+                assertFalse(configSource instanceof ConfigImage.ConfigImageConfigSource);
+                sources++;
+            }
+        }
+        assertEquals(1, sources);
+    }
+
+    @Test
+    void stale(@TempDir Path tempDir) throws Exception {
+        Path image = tempDir.resolve("config.image");
+        ConfigImage.write(buildConfig(tempDir), image, "1.0");
+
+        assertTrue(ConfigImage.read(image, "2.0").isEmpty());
+        assertTrue(ConfigImage.read(tempDir.resolve("missing.image"), "1.0").isEmpty());
+    }
+
+    @Test
+    void corrupted(@TempDir Path tempDir) throws Exception {
+        Path image = tempDir.resolve("config.image");
+        ConfigImage.write(buildConfig(tempDir), image, "1.0");
+
+        byte[] bytes = Files.readAllBytes(image);
+        bytes[bytes.length - 5] ^= 0xFF;
+        Files.write(image, bytes);
+        assertTrue(ConfigImage.read(image, "1.0").isEmpty());
+
+        Files.write(image, new byte[] { 1, 2, 3 });
+        assertTrue(ConfigImage.read(image, "1.0").isEmpty());
+    }
+
+    private static Path resource(Path root, String... lines) throws Exception {
+        Path file = root.resolve("META-INF/microprofile-config.properties");
+        Files.createDirectories(file.getParent());
+        return Files.write(file, Arrays.asList(lines));
+    }
+
+    private static SmallRyeConfig buildConfig(final Path tempDir) throws Exception {
+        Path file = tempDir.resolve("microprofile-config.properties");
+        Files.write(file, Arrays.asList(
+                "config_ordinal=1000",
+                "my.prop=1234",
+                "my.expression=${my.other}",
+                "my.other=5678"));
+
+        return new SmallRyeConfigBuilder()
+                .addDefaultSources()
+                .addDefaultInterceptors()
+                .withSources(new ConfigValuePropertiesConfigSource(file.toUri().toURL()))
+                .withSources(new PropertiesConfigSource(Collections.singletonMap("my.map", "map"), "map", 100))
+                .withDefaultValue("my.default", "default")
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static io.smallrye.config.ProfileConfigSourceInterceptor.SMALLRYE_PROFILE;
+import static io.smallrye.config.ProfileConfigSourceInterceptor.SMALLRYE_PROFILE_PARENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+class ConfigKeyTest {
+    private static final String[] NAMES = new String[] {
+            "my.prop", "my.profile", "my.parent", "%prof.my.profile", "my.expression", "my.default",
+            "my.any.name.value", "smallrye.mp.config.prop", "SMALLRYE_MP_CONFIG_PROP", "my.missing" };
+
+    @Test
+    void sameAsNames() {
+        assertSameAsNames(buildConfig(false));
+        assertSameAsNames(buildConfig(true));
+    }
+
+    @Test
+    void values() {
+        SmallRyeConfig config = buildConfig(false);
+
+        assertEquals("1234", config.getRawValue(config.key("my.prop")));
+        assertEquals("profile", config.getRawValue(config.key("my.profile")));
+        assertEquals("my.profile", config.getConfigValue(config.key("my.profile")).getName());
+        assertEquals("parent", config.getRawValue(config.key("my.parent")));
+        assertEquals("1234", config.getRawValue(config.key("my.expression")));
+        assertEquals("default", config.getRawValue(config.key("my.default")));
+        assertEquals("any", config.getRawValue(config.key("my.any.name.value")));
+        assertEquals("1234", config.getRawValue(config.key("smallrye.mp.config.prop")));
+        assertEquals(1234, config.getValue(config.key("my.prop"), Integer.class));
+        assertEquals(1234, config.getOptionalValue(config.key("my.prop"), Integer.class).get());
+        assertFalse(config.getOptionalValue(config.key("my.missing"), Integer.class).isPresent());
+        assertThrows(NoSuchElementException.class, () -> config.getValue(config.key("my.missing"), Integer.class));
+    }
+
+    @Test
+    void profileKeys() {
+        ConfigKey key = new ConfigKey("my.prop");
+        String[] profiles = new String[] { "prof", "parent" };
+
+        ConfigKey.ProfileKeys profileKeys = key.getProfileKeys(profiles);
+        assertSame(profileKeys, key.getProfileKeys(profiles));
+        assertSame(key, profileKeys.getNormalizeKey());
+        assertEquals("%prof.my.prop", profileKeys.getKeys()[0].getName());
+        assertEquals("%parent.my.prop", profileKeys.getKeys()[1].getName());
+
+        ConfigKey profileKey = new ConfigKey("%prof.my.prop");
+        assertEquals("my.prop", profileKey.getProfileKeys(profiles).getNormalizeKey().getName());
+    }
+
+    @Test
+    void envNames() {
+        ConfigKey key = new ConfigKey("my.\"quoted.prop\"");
+        assertEquals("my__quoted_prop_", key.getEnvName());
+        assertEquals("MY__QUOTED_PROP_", key.getUpperCaseEnvName());
+        assertEquals(2, key.getSegments().length);
+        assertEquals("quoted.prop", key.getSegments()[1]);
+    }
+
+    private static void assertSameAsNames(final SmallRyeConfig config) {
+        for (String name : NAMES) {
+            ConfigValue configValue = config.getConfigValue(name);
+            ConfigValue keyValue = config.getConfigValue(config.key(name));
+            assertEquals(configValue.getName(), keyValue.getName());
+            assertEquals(configValue.getValue(), keyValue.getValue());
+            assertEquals(configValue.getConfigSourceName(), keyValue.getConfigSourceName());
+        }
+        assertNull(config.getRawValue(config.key("my.missing")));
+    }
+
+    private static SmallRyeConfig buildConfig(final boolean compiled) {
+        return new SmallRyeConfigBuilder()
+                .addDefaultSources()
+                .addDefaultInterceptors()
+                .withSources(config("my.prop", "1234",
+                        "my.profile", "main",
+                        "%prof.my.profile", "profile",
+                        "%parent.my.parent", "parent",
+                        "my.expression", "${my.prop}",
+                        SMALLRYE_PROFILE, "prof",
+                        SMALLRYE_PROFILE_PARENT, "parent"))
+                .withDefaultValue("my.default", "default")
+                .withDefaultValue("my.any.*.value", "any")
+                .withCompiledChain(compiled)
+                .build();
+    }
+}
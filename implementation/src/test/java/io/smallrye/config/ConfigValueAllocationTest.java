@@ -0,0 +1,78 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the derived values of a {@link ConfigValue} are only copied when they change, and that a lookup does
+ * not query the metadata of the source again. The allocations of a lookup are measured by the
+ * {@code ConfigValueAllocationBenchmark} of the benchmarks module, with the GC profiler.
+ */
+class ConfigValueAllocationTest {
+    @Test
+    void derivedValues() {
+        ConfigValue configValue = ConfigValue.builder().withName("my.prop").withValue("1234").withRawValue("1234")
+                .withConfigSourceName("source").withConfigSourceOrdinal(100).withLineNumber(1).build();
+
+        assertSame(configValue, configValue.withName("my.prop"));
+        assertSame(configValue, configValue.withValue("1234"));
+        assertSame(configValue, configValue.withConfigSourceOrdinal(100));
+
+        ConfigValue renamed = configValue.withName("my.other");
+        assertEquals("my.other", renamed.getName());
+        assertEquals("1234", renamed.getValue());
+        assertEquals("1234", renamed.getRawValue());
+        assertEquals("source", renamed.getConfigSourceName());
+        assertEquals(100, renamed.getConfigSourceOrdinal());
+        assertEquals(1, renamed.getLineNumber());
+    }
+
+    @Test
+    void sourceMetadata() {
+        CountingConfigSource source = new CountingConfigSource();
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).build();
+        int ordinalLookups = source.ordinalLookups;
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(150, config.getConfigValue("my.prop").getConfigSourceOrdinal());
+        }
+        assertEquals(ordinalLookups, source.ordinalLookups);
+    }
+
+    static class CountingConfigSource implements ConfigSource {
+        private final Map<String, String> properties = new HashMap<>();
+        private int ordinalLookups;
+
+        CountingConfigSource() {
+            properties.put("my.prop", "1234");
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(final String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "CountingConfigSource";
+        }
+
+        @Override
+        public int getOrdinal() {
+            ordinalLookups++;
+            return 150;
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.jupiter.api.Test;
+
+class ConfigValueCacheTest {
+    @Test
+    void disabled() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(config("my.prop", "1234")).build();
+
+        assertFalse(config.getConfigValueCache().isPresent());
+        assertEquals("1234", config.getRawValue("my.prop"));
+    }
+
+    @Test
+    void hitsAndMisses() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234"))
+                .withValueCache(true)
+                .build();
+
+        ConfigValueCache cache = config.getConfigValueCache().get();
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertNull(config.getRawValue("my.missing"));
+        assertNull(config.getRawValue("my.missing"));
+
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void expressions() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("my.prop", "${my.expansion}", "my.expansion", "1234"))
+                .withValueCache(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals(1, config.getConfigValueCache().get().getHits());
+    }
+
+    @Test
+    void invalidate() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.setValue("my.prop", "1234");
+        source.setValue("my.other", "5678");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withValueCache(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("5678", config.getRawValue("my.other"));
+
+        ConfigValueCache cache = config.getConfigValueCache().get();
+        long epoch = cache.getEpoch();
+        source.properties.put("my.prop", "4321");
+        source.properties.put("my.other", "8765");
+        assertEquals("1234", config.getRawValue("my.prop"));
+        cache.invalidate();
+        assertTrue(cache.getEpoch() > epoch);
+        assertEquals("4321", config.getRawValue("my.prop"));
+        assertEquals("8765", config.getRawValue("my.other"));
+    }
+
+    @Test
+    void invalidateName() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.setValue("my.prop", "1234");
+        source.setValue("my.other", "5678");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withValueCache(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("5678", config.getRawValue("my.other"));
+
+        source.setValue("my.prop", "4321");
+        source.properties.put("my.other", "8765");
+        assertEquals("4321", config.getRawValue("my.prop"));
+        assertEquals("5678", config.getRawValue("my.other"));
+    }
+
+    @Test
+    void expressionDependencies() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.setValue("my.prop", "${my.nested}");
+        source.setValue("my.nested", "${my.expansion}");
+        source.setValue("my.expansion", "1234");
+        source.setValue("my.other", "5678");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source)
+                .withValueCache(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("1234", config.getRawValue("my.nested"));
+        source.setValue("my.other", "8765");
+        assertEquals("1234", config.getRawValue("my.prop"));
+
+        source.setValue("my.expansion", "4321");
+        assertEquals("4321", config.getRawValue("my.prop"));
+        assertEquals("4321", config.getRawValue("my.nested"));
+    }
+
+    @Test
+    void invalidateSourceNames() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.setValue("my.prop", "1234");
+        source.setValue("my.expression", "${my.prop}");
+        source.setValue("my.other", "5678");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source)
+                .withProfile("prod")
+                .withValueCache(true)
+                .build();
+
+        ConfigValueCache cache = config.getConfigValueCache().get();
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("1234", config.getRawValue("my.expression"));
+        assertEquals("5678", config.getRawValue("my.other"));
+
+        // a profile name invalidates the name looked up, and its expressions
+        long epoch = cache.getEpoch();
+        source.setValue("%prod.my.prop", "4321");
+        assertEquals("4321", config.getRawValue("my.prop"));
+        assertEquals("4321", config.getRawValue("my.expression"));
+        assertEquals(epoch, cache.getEpoch());
+
+        // an environment name cannot be mapped to the name looked up
+        source.properties.put("my.other", "8765");
+        source.setValue("MY_OTHER", "8765");
+        assertTrue(cache.getEpoch() > epoch);
+        assertEquals("8765", config.getRawValue("my.other"));
+    }
+
+    @Test
+    void invalidateRelocated() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.setValue("old.prop", "1234");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withInterceptors(new FallbackConfigSourceInterceptor(
+                        name -> name.startsWith("new.") ? "old." + name.substring(4) : name))
+                .withValueCache(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("new.prop"));
+        source.setValue("old.prop", "4321");
+        assertEquals("4321", config.getRawValue("new.prop"));
+    }
+
+    @Test
+    void invalidateNames() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.setValue("my.prop", "1234");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source)
+                .withSecretKeys("my.secret")
+                .withValueCache(true)
+                .build();
+
+        Set<String> names = new HashSet<>();
+        config.getPropertyNames().forEach(names::add);
+        assertEquals(names, new HashSet<>(Arrays.asList("my.prop")));
+
+        // the invalidation of the names never resolves the values
+        source.setValue("my.secret", "secret");
+        source.setValue("my.expression", "${my.missing}");
+        names.clear();
+        config.getPropertyNames().forEach(names::add);
+        assertEquals(names, new HashSet<>(Arrays.asList("my.prop", "my.secret", "my.expression")));
+
+        source.remove("my.prop");
+        names.clear();
+        config.getPropertyNames().forEach(names::add);
+        assertEquals(names, new HashSet<>(Arrays.asList("my.secret", "my.expression")));
+        assertEquals(Arrays.asList(), config.getIndexedPropertiesIndexes("my.prop"));
+    }
+
+    @Test
+    void namesWithoutCache() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder().addDefaultSources().build();
+        assertTrue(config.getIndexedPropertiesIndexes("my.dynamic").isEmpty());
+        config.getPropertyNames().forEach(name -> assertFalse(name.startsWith("my.dynamic")));
+
+        // the system properties are read on each call without the cache
+        System.setProperty("my.dynamic[0]", "1234");
+        System.setProperty("my.dynamic[1]", "5678");
+        try {
+            Set<String> names = new HashSet<>();
+            config.getPropertyNames().forEach(names::add);
+            assertTrue(names.contains("my.dynamic[0]"));
+            assertTrue(names.contains("my.dynamic[1]"));
+            assertEquals(Arrays.asList("1234", "5678"), config.getValues("my.dynamic", String.class));
+        } finally {
+            System.clearProperty("my.dynamic[0]");
+            System.clearProperty("my.dynamic[1]");
+        }
+    }
+
+    @Test
+    void secretKeys() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("my.secret", "1234"))
+                .withSecretKeys("my.secret")
+                .withValueCache(true)
+                .build();
+
+        assertEquals("1234", SecretKeys.doUnlocked(() -> config.getRawValue("my.secret")));
+        assertThrows(SecurityException.class, () -> config.getRawValue("my.secret"));
+        assertEquals("1234", SecretKeys.doUnlocked(() -> config.getValue("my.secret", String.class)));
+        assertThrows(SecurityException.class, () -> config.getValue("my.secret", String.class));
+    }
+
+    @Test
+    void withoutExpansion() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("my.prop", "${my.expansion}", "my.expansion", "1234"))
+                .withValueCache(true)
+                .build();
+
+        assertEquals("${my.expansion}", Expressions.withoutExpansion(() -> config.getRawValue("my.prop")));
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("${my.expansion}", Expressions.withoutExpansion(() -> config.getRawValue("my.prop")));
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals(1, config.getConfigValueCache().get().getHits());
+    }
+
+    @Test
+    void converted() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.setValue("my.prop", "1234");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withValueCache(true)
+                .build();
+
+        CountingConverter converter = new CountingConverter();
+        assertEquals(1234, config.getValue("my.prop", converter));
+        assertEquals(1234, config.getValue("my.prop", converter));
+        assertEquals(1234, config.getValue("my.prop", Integer.class));
+        assertEquals(1, converter.count);
+
+        source.setValue("my.prop", "4321");
+        assertEquals(4321, config.getValue("my.prop", converter));
+        assertEquals(4321, config.getValue("my.prop", converter));
+        assertEquals(2, converter.count);
+
+        config.getConfigValueCache().get().invalidate();
+        assertEquals(4321, config.getValue("my.prop", converter));
+        assertEquals(3, converter.count);
+    }
+
+    @Test
+    void convertedCollections() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.list", "1,2,3"))
+                .withValueCache(true)
+                .build();
+
+        CountingConverter converter = new CountingConverter();
+        List<Integer> values = config.getValues("my.list", converter, ArrayList::new);
+        assertEquals(Arrays.asList(1, 2, 3), values);
+        values.clear();
+        assertEquals(Arrays.asList(1, 2, 3), config.getValues("my.list", converter, ArrayList::new));
+        assertEquals(3, converter.count);
+
+        // a Set depends on the collection of the caller, so it is not cached
+        assertEquals(3, config.getValues("my.list", converter, HashSet::new).size());
+        assertEquals(3, config.getValues("my.list", converter, HashSet::new).size());
+        assertEquals(9, converter.count);
+    }
+
+    @Test
+    void convertedArrays() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.array", "1,2,3"))
+                .withValueCache(true)
+                .build();
+
+        int[] primitives = config.getValue("my.array", int[].class);
+        primitives[0] = 4;
+        assertArrayEquals(new int[] { 1, 2, 3 }, config.getValue("my.array", int[].class));
+
+        Integer[] values = config.getValue("my.array", Integer[].class);
+        values[0] = 4;
+        assertArrayEquals(new Integer[] { 1, 2, 3 }, config.getValue("my.array", Integer[].class));
+    }
+
+    @Test
+    void convertedMutable() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234"))
+                .withValueCache(true)
+                .build();
+
+        Converter<StringBuilder> converter = StringBuilder::new;
+        StringBuilder value = config.getValue("my.prop", converter);
+        value.append("5678");
+        assertEquals("1234", config.getValue("my.prop", converter).toString());
+        assertNotSame(config.getValue("my.prop", converter), config.getValue("my.prop", converter));
+    }
+
+    @Test
+    void convertedHits() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234"))
+                .withValueCache(true)
+                .build();
+
+        ConfigValueCache cache = config.getConfigValueCache().get();
+        assertEquals(1234, config.getValue("my.prop", Integer.class));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1234, config.getValue("my.prop", Integer.class));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void convertedOptional() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234"))
+                .withValueCache(true)
+                .build();
+
+        Optional<Integer> value = config.getOptionalValue("my.prop", Integer.class);
+        assertTrue(value.isPresent());
+        assertSame(value, config.getOptionalValue("my.prop", Integer.class));
+        assertFalse(config.getOptionalValue("my.missing", Integer.class).isPresent());
+        assertFalse(config.getOptionalValue("my.missing", Integer.class).isPresent());
+    }
+
+    @Test
+    void propertyNames() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.setValue("my.prop", "1234");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withValueCache(true)
+                .build();
+
+        Iterable<String> names = config.getPropertyNames();
+        assertSame(names, config.getPropertyNames());
+        assertTrue(((Set<String>) names).contains("my.prop"));
+        assertThrows(UnsupportedOperationException.class, () -> ((Set<String>) names).add("my.other"));
+
+        source.setValue("my.other", "5678");
+        assertTrue(((Set<String>) config.getPropertyNames()).contains("my.other"));
+        source.remove("my.prop");
+        assertFalse(((Set<String>) config.getPropertyNames()).contains("my.prop"));
+
+        source.properties.put("my.unknown", "1234");
+        assertFalse(((Set<String>) config.getPropertyNames()).contains("my.unknown"));
+        config.getConfigValueCache().get().invalidate();
+        assertTrue(((Set<String>) config.getPropertyNames()).contains("my.unknown"));
+    }
+
+    @Test
+    void indexedProperties() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.setValue("servers[0]", "a");
+        source.setValue("servers[1]", "b");
+        source.setValue("servers[10]", "c");
+        source.setValue("serversx[2]", "x");
+        source.setValue("server[3]", "x");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withValueCache(true)
+                .build();
+
+        assertEquals(Arrays.asList(0, 1, 10), config.getIndexedPropertiesIndexes("servers"));
+        assertEquals(Arrays.asList("a", "b", "c"), config.getValues("servers", String.class));
+
+        source.setValue("servers[2]", "d");
+        assertEquals(Arrays.asList(0, 1, 2, 10), config.getIndexedPropertiesIndexes("servers"));
+        source.remove("servers[0]");
+        assertEquals(Arrays.asList(1, 2, 10), config.getIndexedPropertiesIndexes("servers"));
+        assertTrue(config.getIndexedPropertiesIndexes("missing").isEmpty());
+    }
+
+    @Test
+    void sourceRegistration() {
+        MutableConfigSource source = new MutableConfigSource();
+        new SmallRyeConfigBuilder().withSources(source).withValueCache(true).build();
+        new SmallRyeConfigBuilder().withSources(source).withValueCache(true).build();
+        new SmallRyeConfigBuilder().withSources(source).build();
+
+        assertEquals(2, source.caches.size());
+    }
+
+    static class CountingConverter implements Converter<Integer> {
+        private int count;
+
+        @Override
+        public Integer convert(final String value) {
+            count++;
+            return Integer.valueOf(value);
+        }
+    }
+
+    static class MutableConfigSource implements ConfigSource, ConfigValueCacheAware {
+        private final Map<String, String> properties = new HashMap<>();
+        private final List<ConfigValueCache> caches = new ArrayList<>();
+
+        void setValue(final String name, final String value) {
+            properties.put(name, value);
+            for (ConfigValueCache cache : caches) {
+                cache.invalidate(name);
+            }
+        }
+
+        void remove(final String name) {
+            properties.remove(name);
+            for (ConfigValueCache cache : caches) {
+                cache.invalidate(name);
+            }
+        }
+
+        @Override
+        public void registerConfigValueCache(final ConfigValueCache cache) {
+            caches.add(cache);
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(final String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "MutableConfigSource";
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static io.smallrye.config.ProfileConfigSourceInterceptor.SMALLRYE_PROFILE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ConfigValuesTest {
+    private static final List<String> NAMES = Arrays.asList("my.prop", "my.profile", "my.expression", "my.relocate",
+            "my.fallback", "my.missing");
+
+    @Test
+    void sameAsSingleLookups() {
+        SmallRyeConfig config = buildConfig(false);
+
+        Map<String, ConfigValue> values = config.getConfigValues(NAMES);
+        assertEquals(NAMES.size(), values.size());
+        for (String name : NAMES) {
+            assertEquals(config.getConfigValue(name).getName(), values.get(name).getName());
+            assertEquals(config.getRawValue(name), values.get(name).getValue());
+        }
+        assertEquals("1", values.get("my.prop").getValue());
+        assertEquals("profile", values.get("my.profile").getValue());
+        assertEquals("1", values.get("my.expression").getValue());
+        assertEquals("relocated", values.get("my.relocate").getValue());
+        assertEquals("fallback", values.get("my.fallback").getValue());
+        assertNull(values.get("my.missing").getValue());
+    }
+
+    @Test
+    void compiled() {
+        SmallRyeConfig config = buildConfig(false);
+        SmallRyeConfig compiled = buildConfig(true);
+
+        Map<String, ConfigValue> values = config.getConfigValues(NAMES);
+        Map<String, ConfigValue> compiledValues = compiled.getConfigValues(NAMES);
+        for (String name : NAMES) {
+            assertEquals(values.get(name).getValue(), compiledValues.get(name).getValue());
+            assertEquals(values.get(name).getConfigSourceName(), compiledValues.get(name).getConfigSourceName());
+        }
+    }
+
+    @Test
+    void bulkSource() {
+        BulkConfigSource high = new BulkConfigSource("high", 200, "my.prop", "high");
+        BulkConfigSource low = new BulkConfigSource("low", 100, "my.prop", "low", "my.low", "low");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(high, low)
+                .build();
+        high.reset();
+        low.reset();
+
+        Map<String, ConfigValue> values = config.getConfigValues(Arrays.asList("my.prop", "my.low", "my.missing"));
+        assertEquals("high", values.get("my.prop").getValue());
+        assertEquals("low", values.get("my.low").getValue());
+        assertNull(values.get("my.missing").getValue());
+        assertEquals(1, high.bulkLookups);
+        assertEquals(0, high.lookups);
+        assertEquals(1, low.bulkLookups);
+        assertEquals(0, low.lookups);
+    }
+
+    @Test
+    void singleLookupInterceptor() {
+        BulkConfigSource source = new BulkConfigSource("source", 100, "my.prop", "1234");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withInterceptors((ConfigSourceInterceptor) ConfigSourceInterceptorContext::proceed)
+                .build();
+        source.reset();
+
+        Map<String, ConfigValue> values = config.getConfigValues(Arrays.asList("my.prop", "my.missing"));
+        assertEquals("1234", values.get("my.prop").getValue());
+        assertNull(values.get("my.missing").getValue());
+        assertEquals(0, source.bulkLookups);
+        assertEquals(2, source.lookups);
+    }
+
+    @Test
+    void cache() {
+        BulkConfigSource source = new BulkConfigSource("source", 100, "my.prop", "1234", "my.other", "5678");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withValueCache(true)
+                .build();
+        source.reset();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        Map<String, ConfigValue> values = config.getConfigValues(Arrays.asList("my.prop", "my.other"));
+        assertEquals("1234", values.get("my.prop").getValue());
+        assertEquals("5678", values.get("my.other").getValue());
+        assertEquals(1, source.bulkLookups);
+        assertEquals(1, source.lookups);
+
+        config.getConfigValues(Arrays.asList("my.prop", "my.other"));
+        assertEquals(1, source.bulkLookups);
+        assertEquals(1, source.lookups);
+    }
+
+    private static SmallRyeConfig buildConfig(final boolean compiled) {
+        Map<String, String> relocations = new HashMap<>();
+        relocations.put("my.relocate", "my.relocated");
+        Map<String, String> fallbacks = new HashMap<>();
+        fallbacks.put("my.fallback", "my.fallback.value");
+
+        return new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("my.prop", "1",
+                        "my.profile", "main",
+                        "%prof.my.profile", "profile",
+                        "my.expression", "${my.prop}",
+                        "my.relocate", "original",
+                        "my.relocated", "relocated",
+                        "my.fallback.value", "fallback",
+                        SMALLRYE_PROFILE, "prof"))
+                .withInterceptors(new RelocateConfigSourceInterceptor(relocations),
+                        new FallbackConfigSourceInterceptor(fallbacks))
+                .withCompiledChain(compiled)
+                .build();
+    }
+
+    static class BulkConfigSource extends MapBackedConfigValueConfigSource {
+        private int lookups;
+        private int bulkLookups;
+
+        BulkConfigSource(final String name, final int ordinal, final String... keyValues) {
+            super(name, new ConfigValueMapStringView(properties(keyValues), name, ordinal), ordinal);
+        }
+
+        void reset() {
+            lookups = 0;
+            bulkLookups = 0;
+        }
+
+        @Override
+        public ConfigValue getConfigValue(final String propertyName) {
+            lookups++;
+            return super.getConfigValue(propertyName);
+        }
+
+        @Override
+        public Map<String, ConfigValue> getConfigValues(final Collection<String> propertyNames) {
+            bulkLookups++;
+            Map<String, ConfigValue> values = new HashMap<>();
+            for (String propertyName : propertyNames) {
+                ConfigValue configValue = getConfigValueProperties().get(propertyName);
+                if (configValue != null) {
+                    values.put(propertyName, configValue);
+                }
+            }
+            return values;
+        }
+
+        private static Map<String, String> properties(final String... keyValues) {
+            Map<String, String> properties = new HashMap<>();
+            for (int i = 0; i < keyValues.length; i += 2) {
+                properties.put(keyValues[i], keyValues[i + 1]);
+            }
+            return properties;
+        }
+    }
+}
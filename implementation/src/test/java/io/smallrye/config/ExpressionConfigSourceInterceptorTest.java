@@ -1,8 +1,11 @@
 package io.smallrye.config;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -164,6 +167,64 @@ class ExpressionConfigSourceInterceptorTest {
         assertEquals("C:\\Some\\Path", config.getRawValue("window.path"));
     }
 
+    @Test
+    void withoutExpression() {
+        final SmallRyeConfig config = buildConfig("my.prop", "1234");
+        final ConfigValue configValue = config.getConfigValue("my.prop");
+        assertEquals("1234", configValue.getValue());
+        assertTrue(configValue.getDependencies().isEmpty());
+    }
+
+    @Test
+    void dependencies() {
+        final SmallRyeConfig config = buildConfig("my.prop", "1234", "expression", "${my.prop}-${nested}", "nested",
+                "${missing:${my.prop}}");
+
+        final ConfigValue configValue = config.getConfigValue("expression");
+        assertEquals("1234-1234", configValue.getValue());
+        assertEquals(Stream.of("my.prop", "nested", "missing").collect(toSet()), configValue.getDependencies());
+        assertEquals("1234-1234", config.getConfigValue("expression").getValue());
+    }
+
+    @Test
+    void cycle() {
+        final SmallRyeConfig config = buildConfig("a", "${b}", "b", "x-${c}", "c", "${a}");
+
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> config.getRawValue("a"));
+        assertTrue(exception.getMessage().contains("a -> b -> c -> a"), exception.getMessage());
+    }
+
+    @Test
+    void dependencyGraph() {
+        final ExpressionConfigSourceInterceptor interceptor = new ExpressionConfigSourceInterceptor();
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("a", "${b}-${c}", "b", "${d}", "c", "c", "d", "d", "e", "e"))
+                .withInterceptors(interceptor)
+                .withValueCache(true)
+                .build();
+
+        assertEquals("d-c", config.getRawValue("a"));
+        final ExpressionDependencyGraph graph = interceptor.getDependencyGraph();
+        assertEquals(Stream.of("b", "c").collect(toSet()), graph.getDependencies("a"));
+        assertEquals(Stream.of("d").collect(toSet()), graph.getDependencies("b"));
+        assertEquals(Stream.of("a", "b").collect(toSet()), graph.getDependents("d"));
+        assertEquals(Stream.of("a").collect(toSet()), graph.getDependents("c"));
+        assertTrue(graph.getDependents("e").isEmpty());
+    }
+
+    @Test
+    void dependencyGraphWithoutCache() {
+        final ExpressionConfigSourceInterceptor interceptor = new ExpressionConfigSourceInterceptor();
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("a", "${b}", "b", "b"))
+                .withInterceptors(interceptor)
+                .build();
+
+        assertEquals("b", config.getRawValue("a"));
+        assertNull(interceptor.getDependencyGraph());
+    }
+
     private static SmallRyeConfig buildConfig(String... keyValues) {
         return new SmallRyeConfigBuilder()
                 .addDefaultSources()
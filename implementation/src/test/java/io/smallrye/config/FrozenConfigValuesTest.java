@@ -0,0 +1,118 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static io.smallrye.config.ProfileConfigSourceInterceptor.SMALLRYE_PROFILE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.ConfigValueCacheTest.MutableConfigSource;
+import io.smallrye.config.common.AbstractConfigSource;
+
+class FrozenConfigValuesTest {
+    @Test
+    void frozen() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("my.prop", "1234",
+                        "%prof.my.prop", "5678",
+                        "my.expression", "${my.prop}",
+                        "my.missing.expression", "${my.missing}",
+                        SMALLRYE_PROFILE, "prof"))
+                .withFrozenValues(true)
+                .build();
+
+        assertEquals("5678", config.getRawValue("my.prop"));
+        assertEquals("5678", config.getRawValue("my.expression"));
+        assertSame(config.getConfigValue("my.expression"), config.getConfigValue("my.expression"));
+        assertNull(config.getRawValue("my.missing"));
+        assertThrows(NoSuchElementException.class, () -> config.getRawValue("my.missing.expression"));
+        assertEquals(5678, config.getValue("my.prop", Integer.class));
+    }
+
+    @Test
+    void withoutExpansion() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("my.prop", "1234", "my.expression", "${my.prop}"))
+                .withFrozenValues(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.expression"));
+        assertEquals("${my.prop}", Expressions.withoutExpansion(() -> config.getRawValue("my.expression")));
+        assertEquals("${my.prop}",
+                Expressions.withoutExpansion(() -> config.getRawValue(config.key("my.expression"))));
+        assertEquals("1234", config.getRawValue("my.expression"));
+    }
+
+    @Test
+    void unknownNames() {
+        MutableConfigSource source = new MutableConfigSource();
+        source.setValue("my.prop", "1234");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withFrozenValues(true)
+                .build();
+
+        // the values are frozen on the first lookup
+        assertEquals("1234", config.getRawValue("my.prop"));
+        source.setValue("my.prop", "4321");
+        source.setValue("my.other", "5678");
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("5678", config.getRawValue("my.other"));
+    }
+
+    @Test
+    void sourceOfBuiltConfig() {
+        // the source lists its names and resolves its values from the config being built
+        AtomicReference<SmallRyeConfig> built = new AtomicReference<>();
+        ConfigSource derived = new AbstractConfigSource("derived", 100) {
+            @Override
+            public Set<String> getPropertyNames() {
+                return Objects.requireNonNull(built.get()).getRawValue("my.derived.enabled") != null
+                        ? Collections.singleton("my.derived")
+                        : Collections.emptySet();
+            }
+
+            @Override
+            public String getValue(final String propertyName) {
+                return "my.derived".equals(propertyName) ? built.get().getRawValue("my.prop") + "-derived" : null;
+            }
+        };
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234", "my.derived.enabled", "true"), derived)
+                .withFrozenValues(true)
+                .build();
+        built.set(config);
+
+        assertEquals("1234-derived", config.getRawValue("my.derived"));
+        assertSame(config.getConfigValue("my.derived"), config.getConfigValue("my.derived"));
+        assertEquals("1234", config.getRawValue("my.prop"));
+    }
+
+    @Test
+    void manyNames() {
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder().withFrozenValues(true);
+        String[] keyValues = new String[2000];
+        for (int i = 0; i < 1000; i++) {
+            keyValues[i * 2] = "my.prop." + i;
+            keyValues[i * 2 + 1] = String.valueOf(i);
+        }
+        SmallRyeConfig config = builder.withSources(config(keyValues)).build();
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(String.valueOf(i), config.getRawValue("my.prop." + i));
+        }
+        assertNull(config.getRawValue("my.prop.1000"));
+    }
+}
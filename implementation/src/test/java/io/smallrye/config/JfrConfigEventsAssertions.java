@@ -0,0 +1,80 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * The assertions of {@link ConfigEventsTest}, in a separate class that is only loaded if the Flight Recorder API is
+ * available, like {@link JfrConfigEvents}.
+ */
+final class JfrConfigEventsAssertions {
+    private JfrConfigEventsAssertions() {
+    }
+
+    static void assertEvents(Path tempDir) throws Exception {
+        Path properties = tempDir.resolve("events.properties");
+        Files.write(properties, "server.host=localhost\nserver.port=8080\n".getBytes(StandardCharsets.UTF_8));
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("io.smallrye.config.Lookup");
+            recording.enable("io.smallrye.config.SourceLoad");
+            recording.enable("io.smallrye.config.Build");
+            recording.enable("io.smallrye.config.Mapping");
+            recording.start();
+
+            SmallRyeConfig config = new SmallRyeConfigBuilder()
+                    .withSources(new PropertiesConfigSourceProvider(properties.toUri().toString(), null, true)
+                            .getConfigSources(null))
+                    .withSources(config("my.prop", "1234"))
+                    .withMapping(ConfigMappingInterfaceTest.Server.class, "server")
+                    .withValueCache(true)
+                    .build();
+            assertEquals("1234", config.getRawValue("my.prop"));
+            assertEquals("1234", config.getRawValue("my.prop"));
+
+            recording.stop();
+            Path dump = tempDir.resolve("events.jfr");
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        }
+
+        List<RecordedEvent> loads = events(events, "io.smallrye.config.SourceLoad");
+        assertEquals(1, loads.size());
+        assertTrue(loads.get(0).getString("url").endsWith("events.properties"));
+        assertEquals(2, loads.get(0).getInt("properties"));
+
+        List<String> phases = events(events, "io.smallrye.config.Build").stream().map(e -> e.getString("phase"))
+                .collect(toList());
+        assertTrue(phases.contains("discovery"));
+        assertTrue(phases.contains("chain"));
+
+        List<RecordedEvent> mappings = events(events, "io.smallrye.config.Mapping");
+        assertEquals(1, mappings.size());
+        assertEquals(1, mappings.get(0).getInt("roots"));
+        assertTrue(mappings.get(0).getInt("properties") >= 3);
+
+        List<RecordedEvent> lookups = events(events, "io.smallrye.config.Lookup").stream()
+                .filter(e -> "my.prop".equals(e.getString("name"))).collect(toList());
+        assertEquals(2, lookups.size());
+        assertEquals("KeyValuesConfigSource", lookups.get(0).getString("source"));
+        assertFalse(lookups.get(0).getBoolean("cacheHit"));
+        assertTrue(lookups.get(1).getBoolean("cacheHit"));
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(toList());
+    }
+}
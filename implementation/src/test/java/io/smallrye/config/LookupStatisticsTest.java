@@ -0,0 +1,114 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class LookupStatisticsTest {
+    @Test
+    void statistics() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234"))
+                .withInterceptors(new ExpressionConfigSourceInterceptor())
+                .withLookupStatistics(true)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("1234", config.getRawValue("my.prop"));
+            assertNull(config.getRawValue("my.missing"));
+        }
+
+        LookupStatistics lookupStatistics = config.getLookupStatistics().get();
+        LookupStatistics.Statistics expression = statistics(lookupStatistics.getInterceptors(),
+                ExpressionConfigSourceInterceptor.class.getName());
+        assertEquals(200, expression.getCalls());
+        assertEquals(100, expression.getHits());
+        assertEquals(100, expression.getMisses());
+        assertTrue(expression.getNanos() > 0);
+        assertEquals(LookupStatistics.BUCKETS, expression.getHistogram().length);
+
+        LookupStatistics.Statistics source = statistics(lookupStatistics.getSources(), "KeyValuesConfigSource");
+        assertEquals(200, source.getCalls());
+        assertEquals(100, source.getHits());
+
+        lookupStatistics.reset();
+        assertEquals(0, expression.getCalls());
+        assertEquals(0, expression.getNanos());
+        assertEquals(0, Arrays.stream(expression.getHistogram()).sum());
+    }
+
+    @Test
+    void sourceOrder() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(singletonMap("my.prop", "high"), "high", 200))
+                .withSources(new PropertiesConfigSource(singletonMap("my.other", "low"), "low", 100))
+                .withLookupStatistics(true)
+                .build();
+
+        assertEquals("low", config.getRawValue("my.other"));
+        List<LookupStatistics.Statistics> sources = config.getLookupStatistics().get().getSources();
+        assertEquals("PropertiesConfigSource[source=high]", sources.get(0).getName());
+        assertEquals(0, sources.get(0).getHits());
+        assertEquals(1, sources.get(0).getMisses());
+        assertEquals("PropertiesConfigSource[source=low]", sources.get(1).getName());
+        assertEquals(1, sources.get(1).getHits());
+    }
+
+    @Test
+    void optimizations() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prod")
+                .withSources(config("my.prop", "1234", "%prod.my.prop", "prod"))
+                .withCompiledChain(true)
+                .withProfileIndex(true)
+                .withLookupStatistics(true)
+                .build();
+
+        assertEquals("prod", config.getRawValue("my.prop"));
+        LookupStatistics lookupStatistics = config.getLookupStatistics().get();
+        LookupStatistics.Statistics source = statistics(lookupStatistics.getSources(), "KeyValuesConfigSource");
+        // the profile value from the index, and the value without the profile from the compiled chain
+        assertEquals(2, source.getHits());
+        assertEquals(1, statistics(lookupStatistics.getInterceptors(),
+                ProfileIndexConfigSourceInterceptor.class.getName()).getCalls());
+        assertEquals("KeyValuesConfigSource", config.getConfigSources().iterator().next().getName());
+    }
+
+    @Test
+    void reload() {
+        ReloadTest.MapRefreshableConfigSource source = new ReloadTest.MapRefreshableConfigSource("my.prop", "1234");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withLookupStatistics(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        source.next("my.prop", "5678");
+        assertTrue(config.reload());
+        assertEquals("5678", config.getRawValue("my.prop"));
+
+        LookupStatistics.Statistics statistics = statistics(config.getLookupStatistics().get().getSources(),
+                "MapRefreshableConfigSource");
+        assertEquals(2, statistics.getHits());
+    }
+
+    @Test
+    void disabled() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(config("my.prop", "1234")).build();
+        assertFalse(config.getLookupStatistics().isPresent());
+    }
+
+    private static LookupStatistics.Statistics statistics(List<LookupStatistics.Statistics> statistics, String name) {
+        return statistics.stream().filter(s -> s.getName().equals(name)).findFirst()
+                .orElseThrow(() -> new AssertionError(name));
+    }
+}
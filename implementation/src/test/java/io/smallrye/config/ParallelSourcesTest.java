@@ -0,0 +1,292 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ParallelSourcesTest {
+    private static final String PROVIDERS = "META-INF/services/" + ConfigSourceProvider.class.getName();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void sameSources() throws Exception {
+        ClassLoader classLoader = providers(FirstProvider.class, SecondProvider.class);
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .forClassLoader(classLoader)
+                .addDefaultSources()
+                .addDiscoveredSources()
+                .withSources(config("my.prop", "1234"))
+                .build();
+        SmallRyeConfig parallel = new SmallRyeConfigBuilder()
+                .forClassLoader(classLoader)
+                .addDefaultSources()
+                .addDiscoveredSources()
+                .withSources(config("my.prop", "1234"))
+                .withParallelSources(true)
+                .build();
+
+        assertEquals(names(config), names(parallel));
+        assertEquals("first", parallel.getRawValue("first.prop"));
+        assertEquals("second", parallel.getRawValue("second.prop"));
+        assertEquals("1234", parallel.getRawValue("my.prop"));
+    }
+
+    @Test
+    void concurrent() throws Exception {
+        LatchProvider.LATCH.set(new CountDownLatch(2));
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .forClassLoader(providers(LatchProvider.class, OtherLatchProvider.class))
+                .addDiscoveredSources()
+                .withParallelSources(true)
+                .build();
+
+        assertEquals("latch", config.getRawValue("latch.prop"));
+        assertEquals(0, LatchProvider.LATCH.get().getCount());
+    }
+
+    @Test
+    void executor() throws Exception {
+        AtomicInteger tasks = new AtomicInteger();
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .forClassLoader(providers(FirstProvider.class, SecondProvider.class))
+                .addDiscoveredSources()
+                .withParallelSources(runnable -> {
+                    tasks.incrementAndGet();
+                    runnable.run();
+                })
+                .build();
+
+        // a task for each provider, and for the discovered PropertiesLocationConfigSourceFactory
+        assertEquals(3, tasks.get());
+        assertEquals("first", config.getRawValue("first.prop"));
+    }
+
+    @Test
+    void failures() throws Exception {
+        ClassLoader single = providers(FirstProvider.class, FailingProvider.class);
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> new SmallRyeConfigBuilder().forClassLoader(single).addDiscoveredSources()
+                        .withParallelSources(true).build());
+        assertEquals("failing", failure.getMessage());
+
+        ClassLoader both = providers(FailingProvider.class, FirstProvider.class, OtherFailingProvider.class);
+        IllegalStateException failures = assertThrows(IllegalStateException.class,
+                () -> new SmallRyeConfigBuilder().forClassLoader(both).addDiscoveredSources()
+                        .withParallelSources(true).build());
+        assertTrue(failures.getMessage().startsWith("SRCFG00041"));
+        assertEquals("failing", failures.getCause().getMessage());
+        assertEquals(1, failures.getSuppressed().length);
+        assertEquals("other failing", failures.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    void contextClassLoader() throws Exception {
+        ClassLoader classLoader = providers(ContextClassLoaderProvider.class);
+        new SmallRyeConfigBuilder().forClassLoader(classLoader).addDiscoveredSources().withParallelSources(true)
+                .build();
+        assertSame(classLoader, ContextClassLoaderProvider.CONTEXT_CLASS_LOADER.get());
+    }
+
+    @Test
+    void independentFactories() {
+        CountDownLatch latch = new CountDownLatch(2);
+        ConfigSourceFactory[] factories = {
+                new LatchFactory("first", 100, latch),
+                new DependentFactory(),
+                new LatchFactory("second", 200, latch)
+        };
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("dependent.prop", "1234"))
+                .withSources(factories)
+                .withParallelSources(true)
+                .build();
+
+        assertEquals(0, latch.getCount());
+        assertEquals("first", config.getRawValue("first.prop"));
+        assertEquals("second", config.getRawValue("second.prop"));
+        assertEquals("1234", config.getRawValue("dependent.copy"));
+
+        CountDownLatch sequentialLatch = new CountDownLatch(0);
+        SmallRyeConfig sequential = new SmallRyeConfigBuilder()
+                .withSources(config("dependent.prop", "1234"))
+                .withSources(new LatchFactory("first", 100, sequentialLatch), new DependentFactory(),
+                        new LatchFactory("second", 200, sequentialLatch))
+                .build();
+        assertEquals(names(sequential), names(config));
+    }
+
+    @Test
+    void locationFactories() {
+        assertTrue(new PropertiesLocationConfigSourceFactory().isIndependent());
+        assertFalse(new DependentFactory().isIndependent());
+    }
+
+    private ClassLoader providers(Class<?>... providers) throws IOException {
+        List<String> names = new ArrayList<>();
+        for (Class<?> provider : providers) {
+            names.add(provider.getName());
+        }
+        Path services = Files.write(Files.createTempFile(directory, "providers", ""), names, StandardCharsets.UTF_8);
+        URL url = services.toUri().toURL();
+
+        return new ClassLoader(ParallelSourcesTest.class.getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(final String name) throws IOException {
+                if (PROVIDERS.equals(name)) {
+                    return Collections.enumeration(Collections.singletonList(url));
+                }
+                return super.getResources(name);
+            }
+        };
+    }
+
+    private static List<String> names(SmallRyeConfig config) {
+        List<String> names = new ArrayList<>();
+        for (ConfigSource configSource : config.getConfigSources()) {
+            names.add(configSource.getName());
+        }
+        return names;
+    }
+
+    public static class FirstProvider implements ConfigSourceProvider {
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ClassLoader forClassLoader) {
+            return Collections.singletonList(config("first.prop", "first"));
+        }
+    }
+
+    public static class SecondProvider implements ConfigSourceProvider {
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ClassLoader forClassLoader) {
+            return Collections.singletonList(config("second.prop", "second"));
+        }
+    }
+
+    public static class LatchProvider implements ConfigSourceProvider {
+        static final AtomicReference<CountDownLatch> LATCH = new AtomicReference<>();
+
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ClassLoader forClassLoader) {
+            CountDownLatch latch = LATCH.get();
+            latch.countDown();
+            try {
+                // only completes if the other provider runs at the same time
+                if (!latch.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("The providers did not run concurrently");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return Collections.singletonList(config("latch.prop", "latch"));
+        }
+    }
+
+    public static class OtherLatchProvider extends LatchProvider {
+    }
+
+    public static class FailingProvider implements ConfigSourceProvider {
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ClassLoader forClassLoader) {
+            throw new IllegalStateException("failing");
+        }
+    }
+
+    public static class OtherFailingProvider implements ConfigSourceProvider {
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ClassLoader forClassLoader) {
+            throw new IllegalArgumentException("other failing");
+        }
+    }
+
+    public static class ContextClassLoaderProvider implements ConfigSourceProvider {
+        static final AtomicReference<ClassLoader> CONTEXT_CLASS_LOADER = new AtomicReference<>();
+
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ClassLoader forClassLoader) {
+            CONTEXT_CLASS_LOADER.set(Thread.currentThread().getContextClassLoader());
+            return Collections.emptyList();
+        }
+    }
+
+    static class LatchFactory implements ConfigSourceFactory {
+        private final String name;
+        private final int priority;
+        private final CountDownLatch latch;
+
+        LatchFactory(final String name, final int priority, final CountDownLatch latch) {
+            this.name = name;
+            this.priority = priority;
+            this.latch = latch;
+        }
+
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ConfigSourceContext context) {
+            latch.countDown();
+            try {
+                // only completes if the other independent factory runs at the same time
+                if (!latch.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("The factories did not run concurrently");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return Collections.singletonList(
+                    new PropertiesConfigSource(Collections.singletonMap(name + ".prop", name), name, priority));
+        }
+
+        @Override
+        public OptionalInt getPriority() {
+            return OptionalInt.of(priority);
+        }
+
+        @Override
+        public boolean isIndependent() {
+            return true;
+        }
+    }
+
+    static class DependentFactory implements ConfigSourceFactory {
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ConfigSourceContext context) {
+            String value = context.getValue("dependent.prop").getValue();
+            return Collections.singletonList(
+                    new PropertiesConfigSource(Collections.singletonMap("dependent.copy", value), "dependent", 150));
+        }
+
+        @Override
+        public OptionalInt getPriority() {
+            return OptionalInt.of(150);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveGettersTest {
+    @Test
+    void primitives() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.int", " 1234 ", "my.long", "-9223372036854775808", "my.double", " 12.5\t",
+                        "my.boolean", " YES ", "my.false", "no"))
+                .build();
+
+        assertEquals(1234, config.getInt("my.int"));
+        assertEquals(Long.MIN_VALUE, config.getLong("my.long"));
+        assertEquals(12.5, config.getDouble("my.double"));
+        assertTrue(config.getBoolean("my.boolean"));
+        assertFalse(config.getBoolean("my.false"));
+    }
+
+    @Test
+    void defaults() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.int", "1234", "my.empty", "", "my.blank", "  "))
+                .build();
+
+        assertEquals(1234, config.getInt("my.int", 5));
+        assertEquals(5, config.getInt("my.missing", 5));
+        assertEquals(5, config.getInt("my.empty", 5));
+        assertEquals(5, config.getInt("my.blank", 5));
+        assertEquals(5L, config.getLong("my.missing", 5L));
+        assertEquals(5.0, config.getDouble("my.missing", 5.0));
+        assertTrue(config.getBoolean("my.missing", true));
+
+        assertThrows(NoSuchElementException.class, () -> config.getInt("my.missing"));
+        assertThrows(NoSuchElementException.class, () -> config.getInt("my.blank"));
+        assertThrows(NoSuchElementException.class, () -> config.getBoolean("my.empty"));
+    }
+
+    @Test
+    void sameAsValueOf() {
+        IntConverter intConverter = (IntConverter) Converters.INTEGER_CONVERTER;
+        LongConverter longConverter = (LongConverter) Converters.LONG_CONVERTER;
+        String[] values = { "0", "+1", "-1", "007", "2147483647", "-2147483648", "2147483648", "-2147483649", "1.5",
+                "-", "+", "", "12a", "0x10", " 42\n", "\u0661\u0662", "9223372036854775807", "-9223372036854775808",
+                "9223372036854775808", "-9223372036854775809" };
+        for (String value : values) {
+            assertEquals(convert(() -> Integer.valueOf(value.trim())), convert(() -> intConverter.convertInt(value)),
+                    value);
+            assertEquals(convert(() -> Long.valueOf(value.trim())), convert(() -> longConverter.convertLong(value)),
+                    value);
+        }
+        assertNull(Converters.INTEGER_CONVERTER.convert(" "));
+        assertNull(Converters.BOOLEAN_CONVERTER.convert(""));
+    }
+
+    @Test
+    void invalid() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.int", "12a", "my.double", "abc"))
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> config.getInt("my.int"));
+        assertThrows(IllegalArgumentException.class, () -> config.getInt("my.int", 5));
+        assertThrows(IllegalArgumentException.class, () -> config.getLong("my.int"));
+        assertThrows(IllegalArgumentException.class, () -> config.getDouble("my.double"));
+    }
+
+    @Test
+    void customConverter() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.int", "ten"))
+                .withConverter(Integer.class, 200, value -> "ten".equals(value) ? 10 : Integer.valueOf(value))
+                .build();
+
+        assertEquals(10, config.getInt("my.int"));
+        assertEquals(10, config.getInt("my.int", 5));
+        assertEquals(5, config.getInt("my.missing", 5));
+    }
+
+    private static Object convert(Supplier<Object> conversion) {
+        try {
+            return conversion.get();
+        } catch (IllegalArgumentException e) {
+            return "failed";
+        }
+    }
+}
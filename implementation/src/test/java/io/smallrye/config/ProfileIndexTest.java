@@ -0,0 +1,134 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+class ProfileIndexTest {
+    private static final List<String> NAMES = Arrays.asList("my.prop", "my.parent", "my.both", "my.higher",
+            "my.lower", "my.env", "my.plain", "%prod.my.prop", "%common.my.parent", "my.missing");
+
+    @Test
+    void sameAsProfileInterceptor() {
+        SmallRyeConfig config = buildConfig(false);
+        SmallRyeConfig indexed = buildConfig(true);
+
+        for (String name : NAMES) {
+            ConfigValue expected = config.getConfigValue(name);
+            ConfigValue actual = indexed.getConfigValue(name);
+            assertEquals(expected.getName(), actual.getName(), name);
+            assertEquals(expected.getValue(), actual.getValue(), name);
+            assertEquals(expected.getConfigSourceName(), actual.getConfigSourceName(), name);
+
+            ConfigValue keyValue = indexed.getConfigValue(indexed.key(name));
+            assertEquals(expected.getName(), keyValue.getName(), name);
+            assertEquals(expected.getValue(), keyValue.getValue(), name);
+        }
+
+        assertEquals("prod", indexed.getRawValue("my.prop"));
+        assertEquals("common", indexed.getRawValue("my.parent"));
+        assertEquals("prod", indexed.getRawValue("my.both"));
+        assertEquals("higher", indexed.getRawValue("my.higher"));
+        assertEquals("lower", indexed.getRawValue("my.lower"));
+        assertEquals("env-prod", indexed.getRawValue("my.env"));
+        assertEquals("plain-prod", indexed.getRawValue("my.plain"));
+    }
+
+    @Test
+    void indexedLookups() {
+        CountingConfigSource source = new CountingConfigSource();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prod")
+                .withSources(source)
+                .withProfileIndex(true)
+                .build();
+        source.lookups.clear();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals(Arrays.asList("my.prop"), source.lookups);
+    }
+
+    @Test
+    void noProfiles() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("my.prop", "1234", "%prod.my.prop", "prod"))
+                .withProfileIndex(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertTrue(config.getProfiles().isEmpty());
+    }
+
+    private static SmallRyeConfig buildConfig(final boolean profileIndex) {
+        Map<String, String> env = new HashMap<>();
+        env.put("_PROD_MY_ENV", "env-prod");
+        env.put("MY_ENV", "env");
+
+        return new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("common,prod")
+                .withSources(properties("high", 300,
+                        "my.higher", "higher",
+                        "%common.my.both", "common"))
+                .withSources(properties("low", 200,
+                        "%prod.my.prop", "prod",
+                        "my.prop", "main",
+                        "%common.my.parent", "common",
+                        "%prod.my.both", "prod",
+                        "%prod.my.higher", "higher-prod",
+                        "my.lower", "lower"))
+                .withSources(properties("lowest", 100,
+                        "%prod.my.lower", "lower-prod"))
+                .withSources(new EnvConfigSource(env, 250))
+                .withSources(config("%prod.my.plain", "plain-prod", "my.plain", "plain"))
+                .withProfileIndex(profileIndex)
+                .build();
+    }
+
+    private static ConfigSource properties(final String name, final int ordinal, final String... keyValues) {
+        Properties properties = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.setProperty(keyValues[i], keyValues[i + 1]);
+        }
+        properties.setProperty(ConfigSource.CONFIG_ORDINAL, String.valueOf(ordinal));
+        return new PropertiesConfigSource(properties, name);
+    }
+
+    static class CountingConfigSource extends MapBackedConfigValueConfigSource {
+        private final List<String> lookups = new ArrayList<>();
+
+        CountingConfigSource() {
+            super("counting", new ConfigValueMapStringView(properties(), "counting", 100));
+        }
+
+        @Override
+        public ConfigValue getConfigValue(final String propertyName) {
+            lookups.add(propertyName);
+            return super.getConfigValue(propertyName);
+        }
+
+        @Override
+        public PropertyNamesFilter getPropertyNamesFilter() {
+            return PropertyNamesFilter.of(getPropertyNames());
+        }
+
+        private static Map<String, String> properties() {
+            Map<String, String> properties = new HashMap<>();
+            properties.put("my.prop", "1234");
+            properties.put("%dev.my.prop", "dev");
+            return properties;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+class PropertyNamesFilterTest {
+    @Test
+    void noFalseNegatives() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            names.add("my.prop." + i);
+        }
+
+        PropertyNamesFilter filter = PropertyNamesFilter.of(names);
+        for (String name : names) {
+            assertTrue(filter.mayContain(name));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mayContain("my.other." + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 500, "Too many false positives " + falsePositives);
+    }
+
+    @Test
+    void empty() {
+        PropertyNamesFilter filter = PropertyNamesFilter.of(new ArrayList<>());
+        assertFalse(filter.mayContain("my.prop"));
+    }
+
+    @Test
+    void env() {
+        Map<String, String> env = new HashMap<>();
+        env.put("MY_PROP", "1");
+        env.put("my_lower_prop", "2");
+        env.put("my.exact.prop", "3");
+        env.put("MY_QUOTED__PROP_ID_", "4");
+        PropertyNamesFilter filter = new EnvConfigSource.EnvPropertyNamesFilter(env.keySet());
+        assertTrue(filter.mayContain("my.prop"));
+        assertTrue(filter.mayContain("MY_PROP"));
+        assertTrue(filter.mayContain("my-prop"));
+        assertTrue(filter.mayContain("my.lower.prop"));
+        assertTrue(filter.mayContain("my.exact.prop"));
+        assertTrue(filter.mayContain("my.quoted.\"prop.id\""));
+        assertFalse(filter.mayContain("my.missing.prop"));
+    }
+
+    @Test
+    void skipSources() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        CountingConfigSource source = new CountingConfigSource(properties);
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).build();
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertNull(config.getRawValue("my.missing.prop"));
+        assertEquals(1, source.lookups);
+
+        SmallRyeConfig compiled = new SmallRyeConfigBuilder().withSources(source).withCompiledChain(true).build();
+        assertEquals("1234", compiled.getRawValue("my.prop"));
+        assertNull(compiled.getRawValue("my.missing.prop"));
+        assertEquals(2, source.lookups);
+    }
+
+    @Test
+    void onlyOwnedProperties() {
+        Map<String, String> env = new HashMap<>();
+        env.put("MY_PROP", "1");
+        // the caller may still change the map
+        assertNull(ConfigValueConfigSourceWrapper.wrap(new EnvConfigSource(env, 300)).getPropertyNamesFilter());
+        assertNull(ConfigValueConfigSourceWrapper.wrap(new PropertiesConfigSource(env, "map", 100))
+                .getPropertyNamesFilter());
+        assertNull(ConfigValueConfigSourceWrapper.wrap(new EnvConfigSource() {
+        }).getPropertyNamesFilter());
+
+        Properties properties = new Properties();
+        properties.setProperty("my.prop", "1234");
+        assertNotNull(ConfigValueConfigSourceWrapper.wrap(new PropertiesConfigSource(properties, "properties"))
+                .getPropertyNamesFilter());
+    }
+
+    @Test
+    void subclasses() {
+        Properties properties = new Properties();
+        properties.setProperty("my.prop", "1234");
+        // resolves names that are not in the properties
+        PropertiesConfigSource source = new PropertiesConfigSource(properties, "dynamic") {
+            @Override
+            public String getValue(final String propertyName) {
+                return propertyName.startsWith("my.dynamic.") ? "dynamic" : super.getValue(propertyName);
+            }
+        };
+
+        assertNull(ConfigValueConfigSourceWrapper.wrap(source).getPropertyNamesFilter());
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withCompiledChain(true).build();
+        assertEquals("dynamic", config.getRawValue("my.dynamic.prop"));
+    }
+
+    static class CountingConfigSource extends MapBackedConfigValueConfigSource {
+        private int lookups;
+
+        CountingConfigSource(final Map<String, String> properties) {
+            super("CountingConfigSource", new ConfigValueMapStringView(properties, "CountingConfigSource", 100));
+        }
+
+        @Override
+        public ConfigValue getConfigValue(final String propertyName) {
+            lookups++;
+            return super.getConfigValue(propertyName);
+        }
+
+        @Override
+        public PropertyNamesFilter getPropertyNamesFilter() {
+            return PropertyNamesFilter.of(getPropertyNames());
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReloadTest {
+    @Test
+    void reload() {
+        MapRefreshableConfigSource source = new MapRefreshableConfigSource("my.prop", "1234");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source)
+                .withSources(config("my.other", "${my.prop}"))
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.other"));
+        assertFalse(config.reload());
+
+        source.next("my.prop", "5678", "my.added", "added");
+        assertTrue(config.reload());
+        assertEquals("5678", config.getRawValue("my.prop"));
+        assertEquals("5678", config.getRawValue("my.other"));
+        assertEquals("added", config.getRawValue("my.added"));
+        assertFalse(config.reload());
+    }
+
+    @Test
+    void reloadOptimizations() {
+        MapRefreshableConfigSource source = new MapRefreshableConfigSource("my.prop", "1234", "%prod.my.prop", "prod");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prod")
+                .withSources(source)
+                .withValueCache(true)
+                .withFrozenValues(true)
+                .withCompiledChain(true)
+                .withProfileIndex(true)
+                .build();
+
+        assertEquals("prod", config.getRawValue("my.prop"));
+        assertTrue(names(config).contains("my.prop"));
+
+        source.next("my.prop", "1234", "%prod.my.prop", "reloaded", "my.added", "added");
+        assertTrue(config.reload());
+        assertEquals("reloaded", config.getRawValue("my.prop"));
+        assertEquals("reloaded", config.getRawValue(config.key("my.prop")));
+        assertEquals("added", config.getRawValue("my.added"));
+        assertTrue(names(config).contains("my.added"));
+    }
+
+    @Test
+    void registerCache() {
+        MapRefreshableConfigSource source = new MapRefreshableConfigSource("my.prop", "1234");
+        CacheAwareConfigSource cacheAware = new CacheAwareConfigSource();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source, cacheAware)
+                .withValueCache(true)
+                .build();
+        assertEquals(1, cacheAware.registrations.get());
+
+        // the sources that are not refreshed are not registered again
+        for (int i = 0; i < 3; i++) {
+            source.next("my.prop", String.valueOf(i));
+            assertTrue(config.reload());
+        }
+        assertEquals("2", config.getRawValue("my.prop"));
+        assertEquals(1, cacheAware.registrations.get());
+    }
+
+    @Test
+    void properties(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("reload.properties");
+        Files.write(file, "my.prop=1234\n".getBytes(StandardCharsets.UTF_8));
+        RefreshablePropertiesConfigSource source = new RefreshablePropertiesConfigSource(file.toUri().toURL(), 200);
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertSame(source, source.refresh());
+
+        Files.write(file, "my.prop=5678\n".getBytes(StandardCharsets.UTF_8));
+        assertTrue(config.reload(Runnable::run).get());
+        assertEquals("5678", config.getRawValue("my.prop"));
+        ConfigSource reloaded = config.getConfigSources().iterator().next();
+        assertNotSame(source, reloaded);
+        assertEquals(1, ((RefreshableConfigSource) reloaded).getVersion());
+        assertEquals(200, reloaded.getOrdinal());
+    }
+
+    @Test
+    void snapshot() {
+        MapRefreshableConfigSource source = new MapRefreshableConfigSource("my.host", "old", "my.port", "1");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source)
+                .withValueCache(true)
+                .build();
+
+        SmallRyeConfig snapshot = config.snapshot();
+        assertSame(snapshot, snapshot.snapshot());
+        assertEquals("old", snapshot.getRawValue("my.host"));
+
+        source.next("my.host", "new", "my.port", "2");
+        assertTrue(config.reload());
+        assertFalse(snapshot.reload());
+        assertEquals("new", config.getRawValue("my.host"));
+        assertEquals(2, config.getInt("my.port"));
+        assertEquals("old", snapshot.getRawValue("my.host"));
+        assertEquals(1, snapshot.getInt("my.port"));
+        assertFalse(snapshot.getConfigValueCache().isPresent());
+        assertEquals("new", config.snapshot().getRawValue("my.host"));
+    }
+
+    @Test
+    void concurrentReaders() throws Exception {
+        MapRefreshableConfigSource source = new MapRefreshableConfigSource("my.prop", "0", "my.other", "0");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source)
+                .withValueCache(true)
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                readers.add(executor.submit(() -> {
+                    int last = 0;
+                    while (!done.get()) {
+                        int value = Integer.parseInt(config.getRawValue("my.prop"));
+                        // a reader never goes back to a previous version of the source
+                        assertTrue(value >= last, value + " < " + last);
+                        last = value;
+                    }
+                    return last;
+                }));
+            }
+
+            for (int i = 1; i <= 200; i++) {
+                source.next("my.prop", String.valueOf(i), "my.other", String.valueOf(i));
+                assertTrue(config.reload(executor).get(10, TimeUnit.SECONDS));
+            }
+            done.set(true);
+            for (Future<Integer> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals("200", config.getRawValue("my.prop"));
+        } finally {
+            done.set(true);
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> names(SmallRyeConfig config) {
+        List<String> names = new ArrayList<>();
+        config.getPropertyNames().forEach(names::add);
+        return names;
+    }
+
+    static class CacheAwareConfigSource extends PropertiesConfigSource implements ConfigValueCacheAware {
+        private static final long serialVersionUID = 1L;
+
+        final AtomicInteger registrations = new AtomicInteger();
+
+        CacheAwareConfigSource() {
+            super(new HashMap<>(), "CacheAwareConfigSource", 100);
+        }
+
+        @Override
+        public void registerConfigValueCache(final ConfigValueCache cache) {
+            registrations.incrementAndGet();
+        }
+    }
+
+    /**
+     * A source of a shared map of values, where {@link #next(String...)} sets the values returned by the next refresh.
+     */
+    static class MapRefreshableConfigSource implements RefreshableConfigSource {
+        private final Map<String, String> properties;
+        private final long version;
+        private final MapRefreshableConfigSource[] next;
+
+        MapRefreshableConfigSource(String... keyValues) {
+            this(map(keyValues), 0, new MapRefreshableConfigSource[1]);
+        }
+
+        private MapRefreshableConfigSource(Map<String, String> properties, long version,
+                MapRefreshableConfigSource[] next) {
+            this.properties = properties;
+            this.version = version;
+            this.next = next;
+        }
+
+        void next(String... keyValues) {
+            long version = (next[0] != null ? next[0].version : this.version) + 1;
+            next[0] = new MapRefreshableConfigSource(map(keyValues), version, next);
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public RefreshableConfigSource refresh() {
+            MapRefreshableConfigSource next = this.next[0];
+            if (next == null || next.version <= version) {
+                return this;
+            }
+            return next;
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "MapRefreshableConfigSource";
+        }
+
+        private static Map<String, String> map(String... keyValues) {
+            Map<String, String> properties = new HashMap<>();
+            for (int i = 0; i < keyValues.length; i += 2) {
+                properties.put(keyValues[i], keyValues[i + 1]);
+            }
+            return properties;
+        }
+    }
+}
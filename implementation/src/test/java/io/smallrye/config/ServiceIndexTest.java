@@ -0,0 +1,252 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import javax.annotation.Priority;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.testing.logging.LogCapture;
+
+class ServiceIndexTest {
+    @RegisterExtension
+    static LogCapture logCapture = LogCapture.with(logRecord -> logRecord.getMessage().startsWith("SRCFG"), Level.ALL);
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        logCapture.records().clear();
+    }
+
+    @Test
+    void indexedServices() throws Exception {
+        ClassLoader classLoader = index("first",
+                "# indexed services",
+                "org.eclipse.microprofile.config.spi.ConfigSourceProvider " + IndexedProvider.class.getName(),
+                "org.eclipse.microprofile.config.spi.Converter " + IndexedConverter.class.getName()
+                        + " priority=300 type=" + Money.class.getName(),
+                "io.smallrye.config.ConfigSourceInterceptor " + IndexedInterceptor.class.getName() + " priority=500");
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .forClassLoader(classLoader)
+                .addDiscoveredSources()
+                .addDiscoveredConverters()
+                .addDiscoveredInterceptors()
+                .withServiceIndex(true)
+                .build();
+
+        assertEquals("indexed", config.getRawValue("my.prop"));
+        assertEquals("indexed", config.getValue("my.money", Money.class).value);
+        assertEquals("intercepted", config.getRawValue("my.intercepted"));
+        // registered in META-INF/services, but not in the index
+        assertNull(config.getRawValue("my.prop.loader"));
+    }
+
+    @Test
+    void serviceLoader() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDiscoveredInterceptors()
+                .build();
+
+        assertEquals("loader", config.getRawValue("my.prop.loader"));
+    }
+
+    @Test
+    void priorities() throws Exception {
+        // the priority of the index replaces the annotation
+        ClassLoader classLoader = index("first",
+                "org.eclipse.microprofile.config.spi.Converter " + IndexedConverter.class.getName()
+                        + " priority=100 type=" + Money.class.getName(),
+                "org.eclipse.microprofile.config.spi.Converter " + OtherMoneyConverter.class.getName()
+                        + " priority=200");
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .forClassLoader(classLoader)
+                .withSources(config("my.money", "1234"))
+                .addDiscoveredConverters()
+                .withServiceIndex(true)
+                .build();
+
+        assertEquals("other", config.getValue("my.money", Money.class).value);
+    }
+
+    @Test
+    void duplicates() throws Exception {
+        String provider = "org.eclipse.microprofile.config.spi.ConfigSourceProvider " + IndexedProvider.class.getName();
+        ClassLoader classLoader = new URLClassLoader(new URL[] { root("first", provider), root("second", provider) },
+                ServiceIndexTest.class.getClassLoader());
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .forClassLoader(classLoader)
+                .addDiscoveredSources()
+                .withServiceIndex(true)
+                .build();
+
+        int indexed = 0;
+        for (ConfigSource configSource : config.getConfigSources()) {
+            if (configSource.getName().contains("indexed")) {
+                indexed++;
+            }
+        }
+        assertEquals(1, indexed);
+    }
+
+    @Test
+    void missingImplementation() throws Exception {
+        ClassLoader classLoader = index("first",
+                "org.eclipse.microprofile.config.spi.ConfigSourceProvider org.acme.MissingProvider");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new SmallRyeConfigBuilder().forClassLoader(classLoader).addDiscoveredSources()
+                        .withServiceIndex(true).build());
+        assertTrue(exception.getMessage().startsWith("SRCFG00042"));
+        assertTrue(exception.getMessage().contains("org.acme.MissingProvider"));
+    }
+
+    @Test
+    void notIndexed() throws Exception {
+        ClassLoader classLoader = index("first",
+                "org.eclipse.microprofile.config.spi.ConfigSourceProvider " + IndexedProvider.class.getName());
+        Path services = directory.resolve("first").resolve("META-INF/services")
+                .resolve(ConfigSourceProvider.class.getName());
+        Files.createDirectories(services.getParent());
+        Files.write(services, Arrays.asList(IndexedProvider.class.getName(), NotIndexedProvider.class.getName()),
+                StandardCharsets.UTF_8);
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .forClassLoader(classLoader)
+                .addDiscoveredSources()
+                .withServiceIndex(true)
+                .build();
+
+        assertEquals("indexed", config.getRawValue("my.prop"));
+        // registered in META-INF/services, but not in the index
+        for (ConfigSource configSource : config.getConfigSources()) {
+            assertNotEquals("not-indexed", configSource.getName());
+        }
+        // the services are only checked on demand
+        assertTrue(notIndexedWarnings().isEmpty());
+
+        System.setProperty(ServiceIndex.CHECK, "true");
+        try {
+            new SmallRyeConfigBuilder()
+                    .forClassLoader(classLoader)
+                    .addDiscoveredSources()
+                    .withServiceIndex(true)
+                    .build();
+        } finally {
+            System.clearProperty(ServiceIndex.CHECK);
+        }
+        List<String> warnings = notIndexedWarnings();
+        assertEquals(1, warnings.size());
+        assertTrue(warnings.get(0).contains(NotIndexedProvider.class.getName()));
+    }
+
+    private static List<String> notIndexedWarnings() {
+        return logCapture.records().stream().map(LogRecord::getMessage)
+                .filter(message -> message.startsWith("SRCFG01007"))
+                .filter(message -> message.contains(ConfigSourceProvider.class.getName()))
+                .collect(toList());
+    }
+
+    @Test
+    void malformedPriority() throws Exception {
+        ClassLoader classLoader = index("first",
+                "io.smallrye.config.ConfigSourceInterceptor " + IndexedInterceptor.class.getName() + " priority=high");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new SmallRyeConfigBuilder().forClassLoader(classLoader).addDiscoveredInterceptors()
+                        .withServiceIndex(true).build());
+        assertTrue(exception.getMessage().startsWith("SRCFG00043"));
+        assertTrue(exception.getMessage().contains("priority=high"));
+    }
+
+    private ClassLoader index(String root, String... lines) throws IOException {
+        return new URLClassLoader(new URL[] { root(root, lines) }, ServiceIndexTest.class.getClassLoader());
+    }
+
+    private URL root(String root, String... lines) throws IOException {
+        Path index = directory.resolve(root).resolve(ServiceIndex.INDEX);
+        Files.createDirectories(index.getParent());
+        Files.write(index, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return directory.resolve(root).toUri().toURL();
+    }
+
+    public static class Money {
+        final String value;
+
+        Money(final String value) {
+            this.value = value;
+        }
+    }
+
+    public static class IndexedProvider implements ConfigSourceProvider {
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ClassLoader forClassLoader) {
+            Map<String, String> properties = new HashMap<>();
+            properties.put("my.prop", "indexed");
+            properties.put("my.money", "1234");
+            return Collections.singletonList(new PropertiesConfigSource(properties, "indexed", 100));
+        }
+    }
+
+    public static class NotIndexedProvider implements ConfigSourceProvider {
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ClassLoader forClassLoader) {
+            return Collections.singletonList(new PropertiesConfigSource(new HashMap<>(), "not-indexed", 100));
+        }
+    }
+
+    @Priority(1000)
+    public static class IndexedConverter implements Converter<Money> {
+        @Override
+        public Money convert(final String value) {
+            return new Money("indexed");
+        }
+    }
+
+    public static class OtherMoneyConverter implements Converter<Money> {
+        @Override
+        public Money convert(final String value) {
+            return new Money("other");
+        }
+    }
+
+    public static class IndexedInterceptor implements ConfigSourceInterceptor {
+        @Override
+        public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+            if ("my.intercepted".equals(name)) {
+                return ConfigValue.builder().withName(name).withValue("intercepted").build();
+            }
+            return context.proceed(name);
+        }
+    }
+}
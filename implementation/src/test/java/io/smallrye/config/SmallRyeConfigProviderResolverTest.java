@@ -0,0 +1,298 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SmallRyeConfigProviderResolverTest {
+    private static final String FACTORY = "META-INF/services/" + SmallRyeConfigFactory.class.getName();
+    private static final String PROVIDER = "META-INF/services/" + ConfigSourceProvider.class.getName();
+
+    @TempDir
+    Path directory;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void distinctClassLoaders() throws Exception {
+        LatchConfigFactory.LATCH.set(new CountDownLatch(2));
+        SmallRyeConfigProviderResolver resolver = new SmallRyeConfigProviderResolver();
+        ClassLoader first = factory(LatchConfigFactory.class);
+        ClassLoader second = factory(LatchConfigFactory.class);
+
+        // each build only completes if the other build runs at the same time
+        Future<Config> firstConfig = executor.submit(() -> resolver.getConfig(first));
+        Future<Config> secondConfig = executor.submit(() -> resolver.getConfig(second));
+
+        assertNotSame(firstConfig.get(30, TimeUnit.SECONDS), secondConfig.get(30, TimeUnit.SECONDS));
+        assertSame(firstConfig.get(), resolver.getConfig(first));
+        assertSame(secondConfig.get(), resolver.getConfig(second));
+    }
+
+    @Test
+    void sameClassLoader() throws Exception {
+        CountingConfigFactory.BUILDS.set(0);
+        CountingConfigFactory.LATCH.set(new CountDownLatch(1));
+        SmallRyeConfigProviderResolver resolver = new SmallRyeConfigProviderResolver();
+        ClassLoader classLoader = factory(CountingConfigFactory.class);
+
+        List<Future<Config>> configs = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            configs.add(executor.submit(() -> resolver.getConfig(classLoader)));
+        }
+        CountingConfigFactory.LATCH.get().countDown();
+
+        Config config = configs.get(0).get(30, TimeUnit.SECONDS);
+        for (Future<Config> other : configs) {
+            assertSame(config, other.get(30, TimeUnit.SECONDS));
+        }
+        assertEquals(1, CountingConfigFactory.BUILDS.get());
+    }
+
+    @Test
+    void failure() throws Exception {
+        FailingConfigFactory.FAILURES.set(1);
+        SmallRyeConfigProviderResolver resolver = new SmallRyeConfigProviderResolver();
+        ClassLoader classLoader = factory(FailingConfigFactory.class);
+
+        assertThrows(IllegalStateException.class, () -> resolver.getConfig(classLoader));
+        // a failed build is not cached
+        Config config = resolver.getConfig(classLoader);
+        assertSame(config, resolver.getConfig(classLoader));
+    }
+
+    @Test
+    void registerAndRelease() throws Exception {
+        SmallRyeConfigProviderResolver resolver = new SmallRyeConfigProviderResolver();
+        ClassLoader classLoader = factory(CountingConfigFactory.class);
+        Config config = new SmallRyeConfigBuilder().build();
+
+        resolver.registerConfig(config, classLoader);
+        assertSame(config, resolver.getConfig(classLoader));
+        assertThrows(IllegalStateException.class, () -> resolver.registerConfig(config, classLoader));
+
+        resolver.releaseConfig(config);
+        CountingConfigFactory.LATCH.set(new CountDownLatch(0));
+        Config built = resolver.getConfig(classLoader);
+        assertNotSame(config, built);
+        assertSame(built, resolver.getConfig(classLoader));
+    }
+
+    @Test
+    void reentrant() throws Exception {
+        SmallRyeConfigProviderResolver resolver = new SmallRyeConfigProviderResolver();
+        ClassLoader classLoader = factory(ReentrantConfigFactory.class);
+
+        Future<Config> config = executor.submit(() -> resolver.getConfig(classLoader));
+        assertTrue(config.get(30, TimeUnit.SECONDS) instanceof SmallRyeConfig);
+        assertSame(config.get(), resolver.getConfig(classLoader));
+    }
+
+    @Test
+    void reentrantParallelSources() throws Exception {
+        SmallRyeConfigProviderResolver resolver = new SmallRyeConfigProviderResolver();
+        ReentrantConfigSourceProvider.RESOLVER.set(resolver);
+        ReentrantConfigSourceProvider.LOOKUP.set(false);
+        ClassLoader classLoader = factory(ParallelConfigFactory.class, ReentrantConfigSourceProvider.class);
+
+        // the provider runs in a task of the parallel sources, and looks up the config while it is built
+        Future<Config> config = executor.submit(() -> resolver.getConfig(classLoader));
+        assertEquals("reentrant", config.get(30, TimeUnit.SECONDS).getValue("my.prop", String.class));
+        assertSame(config.get(), resolver.getConfig(classLoader));
+    }
+
+    @Test
+    void releasePending() throws Exception {
+        SmallRyeConfig shared = new SmallRyeConfigBuilder().build();
+        SharedConfigFactory.SHARED.set(shared);
+        SharedConfigFactory.STARTED.set(new CountDownLatch(1));
+        SharedConfigFactory.LATCH.set(new CountDownLatch(1));
+        SmallRyeConfigProviderResolver resolver = new SmallRyeConfigProviderResolver();
+        ClassLoader classLoader = factory(SharedConfigFactory.class);
+
+        Future<Config> config = executor.submit(() -> resolver.getConfig(classLoader));
+        await(SharedConfigFactory.STARTED.get());
+        // released while the build that returns it is pending
+        resolver.releaseConfig(shared);
+        SharedConfigFactory.LATCH.get().countDown();
+
+        assertSame(shared, config.get(30, TimeUnit.SECONDS));
+        Config built = resolver.getConfig(classLoader);
+        assertNotSame(shared, built);
+        assertSame(built, resolver.getConfig(classLoader));
+    }
+
+    private ClassLoader factory(Class<? extends SmallRyeConfigFactory> factory) throws IOException {
+        return factory(factory, null);
+    }
+
+    private ClassLoader factory(Class<? extends SmallRyeConfigFactory> factory,
+            Class<? extends ConfigSourceProvider> provider) throws IOException {
+        URL factoryUrl = services(factory);
+        URL providerUrl = provider != null ? services(provider) : null;
+
+        return new ClassLoader(SmallRyeConfigProviderResolverTest.class.getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(final String name) throws IOException {
+                if (FACTORY.equals(name)) {
+                    return Collections.enumeration(Collections.singletonList(factoryUrl));
+                }
+                if (providerUrl != null && PROVIDER.equals(name)) {
+                    return Collections.enumeration(Collections.singletonList(providerUrl));
+                }
+                return super.getResources(name);
+            }
+        };
+    }
+
+    private URL services(Class<?> implementation) throws IOException {
+        Path services = Files.write(Files.createTempFile(directory, "services", ""),
+                Collections.singletonList(implementation.getName()), StandardCharsets.UTF_8);
+        return services.toUri().toURL();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The latch was not released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class LatchConfigFactory extends SmallRyeConfigFactory {
+        static final AtomicReference<CountDownLatch> LATCH = new AtomicReference<>();
+
+        @Override
+        public SmallRyeConfig getConfigFor(SmallRyeConfigProviderResolver configProviderResolver,
+                ClassLoader classLoader) {
+            CountDownLatch latch = LATCH.get();
+            latch.countDown();
+            await(latch);
+            return new SmallRyeConfigBuilder().forClassLoader(classLoader).build();
+        }
+    }
+
+    public static class CountingConfigFactory extends SmallRyeConfigFactory {
+        static final AtomicInteger BUILDS = new AtomicInteger();
+        static final AtomicReference<CountDownLatch> LATCH = new AtomicReference<>();
+
+        @Override
+        public SmallRyeConfig getConfigFor(SmallRyeConfigProviderResolver configProviderResolver,
+                ClassLoader classLoader) {
+            BUILDS.incrementAndGet();
+            await(LATCH.get());
+            return new SmallRyeConfigBuilder().forClassLoader(classLoader).build();
+        }
+    }
+
+    public static class FailingConfigFactory extends SmallRyeConfigFactory {
+        static final AtomicInteger FAILURES = new AtomicInteger();
+
+        @Override
+        public SmallRyeConfig getConfigFor(SmallRyeConfigProviderResolver configProviderResolver,
+                ClassLoader classLoader) {
+            if (FAILURES.getAndDecrement() > 0) {
+                throw new IllegalStateException("failed");
+            }
+            return new SmallRyeConfigBuilder().forClassLoader(classLoader).build();
+        }
+    }
+
+    public static class ReentrantConfigFactory extends SmallRyeConfigFactory {
+        static final ThreadLocal<Boolean> BUILDING = ThreadLocal.withInitial(() -> false);
+
+        @Override
+        public SmallRyeConfig getConfigFor(SmallRyeConfigProviderResolver configProviderResolver,
+                ClassLoader classLoader) {
+            // a source or converter may look up the config of its class loader while it is built
+            if (!BUILDING.get()) {
+                BUILDING.set(true);
+                try {
+                    configProviderResolver.getConfig(classLoader);
+                } finally {
+                    BUILDING.set(false);
+                }
+            }
+            return new SmallRyeConfigBuilder().forClassLoader(classLoader).build();
+        }
+    }
+
+    public static class ParallelConfigFactory extends SmallRyeConfigFactory {
+        @Override
+        public SmallRyeConfig getConfigFor(SmallRyeConfigProviderResolver configProviderResolver,
+                ClassLoader classLoader) {
+            return new SmallRyeConfigBuilder().forClassLoader(classLoader)
+                    .addDiscoveredSources()
+                    .withParallelSources(true)
+                    .build();
+        }
+    }
+
+    public static class ReentrantConfigSourceProvider implements ConfigSourceProvider {
+        static final AtomicReference<SmallRyeConfigProviderResolver> RESOLVER = new AtomicReference<>();
+        static final AtomicBoolean LOOKUP = new AtomicBoolean();
+
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ClassLoader forClassLoader) {
+            // only the first build looks up the config, which is built again by the lookup
+            if (LOOKUP.compareAndSet(false, true)) {
+                RESOLVER.get().getConfig(Thread.currentThread().getContextClassLoader());
+            }
+            return Collections.singletonList(new PropertiesConfigSource(
+                    Collections.singletonMap("my.prop", "reentrant"), "reentrant", 100));
+        }
+    }
+
+    public static class SharedConfigFactory extends SmallRyeConfigFactory {
+        static final AtomicReference<SmallRyeConfig> SHARED = new AtomicReference<>();
+        static final AtomicReference<CountDownLatch> STARTED = new AtomicReference<>();
+        static final AtomicReference<CountDownLatch> LATCH = new AtomicReference<>();
+
+        @Override
+        public SmallRyeConfig getConfigFor(SmallRyeConfigProviderResolver configProviderResolver,
+                ClassLoader classLoader) {
+            SmallRyeConfig shared = SHARED.getAndSet(null);
+            if (shared == null) {
+                return new SmallRyeConfigBuilder().forClassLoader(classLoader).build();
+            }
+            STARTED.get().countDown();
+            await(LATCH.get());
+            return shared;
+        }
+    }
+}
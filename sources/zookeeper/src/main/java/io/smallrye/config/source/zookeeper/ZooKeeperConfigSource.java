@@ -7,6 +7,8 @@ import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.zookeeper.data.Stat;
 
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.ConfigValueConfigSource;
 import io.smallrye.config.common.AbstractConfigSource;
 
 /**
@@ -17,7 +19,7 @@ import io.smallrye.config.common.AbstractConfigSource;
  * <p>
  * author: Simon Woodman swoodman@redhat.com
  */
-public class ZooKeeperConfigSource extends AbstractConfigSource {
+public class ZooKeeperConfigSource extends AbstractConfigSource implements ConfigValueConfigSource {
     private static final long serialVersionUID = 3127679154588598693L;
 
     //Property the URL of the Zookeeper instance will be read from
@@ -96,4 +98,67 @@ public class ZooKeeperConfigSource extends AbstractConfigSource {
         }
         return null;
     }
+
+    @Override
+    public ConfigValue getConfigValue(final String key) {
+        return configValue(key, getValue(key));
+    }
+
+    /**
+     * Retrieves the children of the application node once, and then only the data of the keys that exist, instead of
+     * checking the existence of each key with a separate round trip.
+     */
+    @Override
+    public Map<String, ConfigValue> getConfigValues(final Collection<String> keys) {
+        final Map<String, ConfigValue> values = new HashMap<>();
+
+        final Set<String> children;
+        try {
+            children = new HashSet<>(curator.getChildren().forPath(applicationId));
+        } catch (Exception e) {
+            ZooKeepperLogging.log.failedToRetrievePropertyNames(e);
+            return values;
+        }
+
+        for (final String key : keys) {
+            if (children.contains(key)) {
+                try {
+                    values.put(key, configValue(key, new String(curator.getData().forPath(applicationId + "/" + key))));
+                } catch (Exception e) {
+                    ZooKeepperLogging.log.failedToRetrieveValue(e, key);
+                }
+            } else if (key.indexOf('/') != -1) {
+                // nested znodes are not children of the application node
+                final ConfigValue configValue = getConfigValue(key);
+                if (configValue != null) {
+                    values.put(key, configValue);
+                }
+            }
+        }
+
+        return values;
+    }
+
+    @Override
+    public Map<String, ConfigValue> getConfigValueProperties() {
+        final Map<String, ConfigValue> values = new HashMap<>();
+        for (final Map.Entry<String, String> property : getProperties().entrySet()) {
+            values.put(property.getKey(), configValue(property.getKey(), property.getValue()));
+        }
+        return values;
+    }
+
+    private ConfigValue configValue(final String key, final String value) {
+        if (value == null) {
+            return null;
+        }
+
+        return ConfigValue.builder()
+                .withName(key)
+                .withValue(value)
+                .withRawValue(value)
+                .withConfigSourceName(getName())
+                .withConfigSourceOrdinal(getOrdinal())
+                .build();
+    }
 }
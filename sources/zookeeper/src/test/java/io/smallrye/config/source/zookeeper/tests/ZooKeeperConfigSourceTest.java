@@ -11,7 +11,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.logging.Logger;
@@ -34,7 +36,9 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import io.smallrye.config.ConfigValue;
 import io.smallrye.config.inject.ConfigExtension;
+import io.smallrye.config.source.zookeeper.ZooKeeperConfigSource;
 
 /**
  * Test the ConfigSource
@@ -127,4 +131,16 @@ class ZooKeeperConfigSourceTest {
         assertEquals("injected.property.value", injectedProperty);
         assertEquals(17, injectedIntProperty);
     }
+
+    @Test
+    void testGettingConfigValues() {
+        ZooKeeperConfigSource configSource = new ZooKeeperConfigSource("localhost:2181", APPLICATION_ID);
+
+        Map<String, ConfigValue> values = configSource
+                .getConfigValues(Arrays.asList("injected.property", "injected.int.property", "missing.property"));
+        assertEquals(2, values.size());
+        assertEquals("injected.property.value", values.get("injected.property").getValue());
+        assertEquals("17", values.get("injected.int.property").getValue());
+        assertFalse(values.containsKey("missing.property"));
+    }
 }
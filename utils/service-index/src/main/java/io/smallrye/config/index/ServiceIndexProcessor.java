@@ -0,0 +1,244 @@
+package io.smallrye.config.index;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates the service index of SmallRye Config, read by {@code SmallRyeConfigBuilder#withServiceIndex(boolean)}
+ * instead of a {@link java.util.ServiceLoader} lookup of each service.
+ * <p>
+ *
+ * When the compilation is over, the processor reads the {@code META-INF/services} files of the configuration services
+ * in the class output, the source path and the resource directories of the {@value #RESOURCES} option, and writes the
+ * {@value #INDEX} resource, with a line for each implementation:
+ *
+ * <pre>
+ * &lt;service&gt; &lt;implementation&gt; [priority=&lt;priority&gt;] [type=&lt;converted type&gt;]
+ * </pre>
+ *
+ * The priority is the value of the {@code javax.annotation.Priority} of the implementation, if any. The converted type
+ * is the binary name of the type argument of a {@code Converter}, resolved like {@code Converters#getConverterType},
+ * if it is a class without type arguments. Otherwise, the type is resolved at runtime.
+ * <p>
+ *
+ * Maven copies the resources to the class output before the compilation, but Gradle and some IDEs only copy them
+ * after, so the resource directories must be set with the {@value #RESOURCES} option, a list of directories separated
+ * by the path separator:
+ *
+ * <pre>
+ * compileJava {
+ *     options.compilerArgs += ["-Asmallrye.config.index.resources=${projectDir}/src/main/resources"]
+ * }
+ * </pre>
+ *
+ * An application packaged in a single jar must merge the index of each jar, like the {@code META-INF/services} files,
+ * for instance with the {@code AppendingTransformer} of the Maven Shade Plugin:
+ *
+ * <pre>
+ * &lt;transformer implementation="org.apache.maven.plugins.shade.resource.AppendingTransformer"&gt;
+ *     &lt;resource&gt;META-INF/smallrye-config-services.idx&lt;/resource&gt;
+ * &lt;/transformer&gt;
+ * </pre>
+ *
+ * Or {@code append 'META-INF/smallrye-config-services.idx'} with the Gradle Shadow Plugin.
+ */
+public class ServiceIndexProcessor extends AbstractProcessor {
+    public static final String INDEX = "META-INF/smallrye-config-services.idx";
+    public static final String RESOURCES = "smallrye.config.index.resources";
+
+    static final String CONVERTER = "org.eclipse.microprofile.config.spi.Converter";
+    static final List<String> SERVICES = Collections.unmodifiableList(Arrays.asList(
+            "org.eclipse.microprofile.config.spi.ConfigSource",
+            "org.eclipse.microprofile.config.spi.ConfigSourceProvider",
+            CONVERTER,
+            "io.smallrye.config.ConfigSourceFactory",
+            "io.smallrye.config.ConfigSourceInterceptor",
+            "io.smallrye.config.ConfigSourceInterceptorFactory"));
+
+    private static final String PRIORITY = "javax.annotation.Priority";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(RESOURCES);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            try {
+                writeIndex();
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to write the SmallRye Config service index: " + e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private void writeIndex() throws IOException {
+        final List<String> lines = new ArrayList<>();
+        for (String service : SERVICES) {
+            for (String implementation : readServices(service)) {
+                lines.add(indexLine(service, implementation));
+            }
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        final FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+        try (Writer writer = index.openWriter()) {
+            writer.write("# Generated by " + ServiceIndexProcessor.class.getName() + "\n");
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+    }
+
+    private Set<String> readServices(final String service) throws IOException {
+        final String path = "META-INF/services/" + service;
+        final Set<String> implementations = new LinkedHashSet<>();
+        for (StandardLocation location : Arrays.asList(StandardLocation.CLASS_OUTPUT, StandardLocation.SOURCE_PATH)) {
+            try (InputStream in = processingEnv.getFiler().getResource(location, "", path).openInputStream()) {
+                readServices(in, implementations);
+            } catch (IllegalArgumentException | FileNotFoundException | NoSuchFileException e) {
+                // the location is not set, or the service is not registered
+            }
+        }
+
+        final String resources = processingEnv.getOptions().get(RESOURCES);
+        if (resources != null) {
+            for (String directory : resources.split(File.pathSeparator)) {
+                final Path services = Paths.get(directory.trim()).resolve(path);
+                if (!directory.trim().isEmpty() && Files.isRegularFile(services)) {
+                    try (InputStream in = Files.newInputStream(services)) {
+                        readServices(in, implementations);
+                    }
+                }
+            }
+        }
+        return implementations;
+    }
+
+    private static void readServices(final InputStream in, final Set<String> implementations) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final int comment = line.indexOf('#');
+            final String implementation = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (!implementation.isEmpty()) {
+                implementations.add(implementation);
+            }
+        }
+    }
+
+    private String indexLine(final String service, final String implementation) {
+        final StringBuilder line = new StringBuilder(service).append(' ').append(implementation);
+        final TypeElement type = processingEnv.getElementUtils().getTypeElement(implementation.replace('$', '.'));
+        if (type == null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "The service " + implementation + " of " + service + " was not found, so it is indexed without "
+                            + "its priority and converted type");
+            return line.toString();
+        }
+
+        final Integer priority = getPriority(type);
+        if (priority != null) {
+            line.append(" priority=").append(priority);
+        }
+        if (CONVERTER.equals(service)) {
+            final String converterType = getConverterType(type);
+            if (converterType != null) {
+                line.append(" type=").append(converterType);
+            }
+        }
+        return line.toString();
+    }
+
+    private static Integer getPriority(final TypeElement type) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (PRIORITY.equals(annotation.getAnnotationType().toString())) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : annotation
+                        .getElementValues().entrySet()) {
+                    if (value.getKey().getSimpleName().contentEquals("value")) {
+                        return (Integer) value.getValue().getValue();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The binary name of the type argument of the {@code Converter} implemented by the type or its superclasses, only
+     * looking at the interfaces declared by each class, like {@code Converters#getConverterType}. Returns
+     * {@code null} if the type argument is not a class without type arguments.
+     */
+    private String getConverterType(final TypeElement type) {
+        TypeElement current = type;
+        while (current != null && !"java.lang.Object".contentEquals(current.getQualifiedName())) {
+            for (TypeMirror implemented : current.getInterfaces()) {
+                final DeclaredType declared = (DeclaredType) implemented;
+                if (CONVERTER.contentEquals(((TypeElement) declared.asElement()).getQualifiedName())) {
+                    if (declared.getTypeArguments().size() != 1) {
+                        return null;
+                    }
+                    final TypeMirror argument = declared.getTypeArguments().get(0);
+                    if (argument.getKind() != TypeKind.DECLARED
+                            || !((DeclaredType) argument).getTypeArguments().isEmpty()) {
+                        return null;
+                    }
+                    final TypeElement argumentType = (TypeElement) ((DeclaredType) argument).asElement();
+                    return processingEnv.getElementUtils().getBinaryName(argumentType).toString();
+                }
+            }
+
+            final TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement()
+                    : null;
+        }
+        return null;
+    }
+}
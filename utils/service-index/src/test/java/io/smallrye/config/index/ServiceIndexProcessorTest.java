@@ -0,0 +1,139 @@
+package io.smallrye.config.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Priority;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ServiceIndexProcessorTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void services() throws Exception {
+        source("org/acme/Money.java", "package org.acme; public class Money {}");
+        source("org/acme/MoneyConverter.java", "package org.acme;",
+                "@javax.annotation.Priority(200)",
+                "public class MoneyConverter implements org.eclipse.microprofile.config.spi.Converter<Money> {",
+                "    public Money convert(String value) { return new Money(); }",
+                "}");
+        source("org/acme/SubMoneyConverter.java", "package org.acme;",
+                "public class SubMoneyConverter extends MoneyConverter {}");
+        source("org/acme/ListConverter.java", "package org.acme;",
+                "public class ListConverter",
+                "        implements org.eclipse.microprofile.config.spi.Converter<java.util.List<String>> {",
+                "    public java.util.List<String> convert(String value) { return null; }",
+                "}");
+        source("org/acme/Outer.java", "package org.acme;",
+                "public class Outer {",
+                "    public static class Provider",
+                "            implements org.eclipse.microprofile.config.spi.ConfigSourceProvider {",
+                "        public Iterable<org.eclipse.microprofile.config.spi.ConfigSource> getConfigSources(",
+                "                ClassLoader forClassLoader) { return null; }",
+                "    }",
+                "}");
+        services("org.eclipse.microprofile.config.spi.Converter",
+                "# converters", "org.acme.MoneyConverter", "org.acme.SubMoneyConverter # inherited",
+                "org.acme.ListConverter", "org.acme.MoneyConverter");
+        services("org.eclipse.microprofile.config.spi.ConfigSourceProvider", "org.acme.Outer$Provider");
+
+        assertEquals(0, compile());
+
+        List<String> index = readIndex();
+        assertEquals(Arrays.asList(
+                "org.eclipse.microprofile.config.spi.ConfigSourceProvider org.acme.Outer$Provider",
+                "org.eclipse.microprofile.config.spi.Converter org.acme.MoneyConverter priority=200 "
+                        + "type=org.acme.Money",
+                "org.eclipse.microprofile.config.spi.Converter org.acme.SubMoneyConverter type=org.acme.Money",
+                "org.eclipse.microprofile.config.spi.Converter org.acme.ListConverter"), index);
+    }
+
+    @Test
+    void noServices() throws Exception {
+        source("org/acme/Money.java", "package org.acme; public class Money {}");
+
+        assertEquals(0, compile());
+        assertFalse(Files.exists(directory.resolve("classes").resolve(ServiceIndexProcessor.INDEX)));
+    }
+
+    @Test
+    void resources() throws Exception {
+        source("org/acme/Money.java", "package org.acme; public class Money {}");
+        source("org/acme/MoneyConverter.java", "package org.acme;",
+                "public class MoneyConverter implements org.eclipse.microprofile.config.spi.Converter<Money> {",
+                "    public Money convert(String value) { return new Money(); }",
+                "}");
+        Path services = directory.resolve("resources").resolve("META-INF/services")
+                .resolve("org.eclipse.microprofile.config.spi.Converter");
+        Files.createDirectories(services.getParent());
+        Files.write(services, Arrays.asList("org.acme.MoneyConverter"), StandardCharsets.UTF_8);
+
+        assertEquals(0, compile("-A" + ServiceIndexProcessor.RESOURCES + "=" + directory.resolve("resources")));
+
+        assertEquals(Arrays.asList("org.eclipse.microprofile.config.spi.Converter org.acme.MoneyConverter "
+                + "type=org.acme.Money"), readIndex());
+    }
+
+    private void source(String path, String... lines) throws IOException {
+        Path source = directory.resolve("src").resolve(path);
+        Files.createDirectories(source.getParent());
+        Files.write(source, Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    private void services(String service, String... implementations) throws IOException {
+        Path services = directory.resolve("classes").resolve("META-INF/services").resolve(service);
+        Files.createDirectories(services.getParent());
+        Files.write(services, Arrays.asList(implementations), StandardCharsets.UTF_8);
+    }
+
+    private int compile(String... options) throws IOException, URISyntaxException {
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        List<String> arguments = new ArrayList<>(Arrays.asList(
+                "-proc:only", "-processor", ServiceIndexProcessor.class.getName(),
+                "-classpath", classPath(ServiceIndexProcessor.class, Converter.class, Priority.class),
+                "-d", classes.toString()));
+        arguments.addAll(Arrays.asList(options));
+        try (Stream<Path> sources = Files.walk(directory.resolve("src"))) {
+            arguments.addAll(sources.filter(path -> path.toString().endsWith(".java")).map(Path::toString)
+                    .collect(Collectors.toList()));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertTrue(compiler != null, "a JDK is required to run the processor");
+        return compiler.run(null, null, null, arguments.toArray(new String[0]));
+    }
+
+    private static String classPath(Class<?>... classes) throws URISyntaxException {
+        List<String> classPath = new ArrayList<>();
+        for (Class<?> klass : classes) {
+            classPath.add(Paths.get(klass.getProtectionDomain().getCodeSource().getLocation().toURI()).toString());
+        }
+        return String.join(File.pathSeparator, classPath);
+    }
+
+    private List<String> readIndex() throws IOException {
+        return Files.readAllLines(directory.resolve("classes").resolve(ServiceIndexProcessor.INDEX)).stream()
+                .filter(line -> !line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+}